@@ -3,9 +3,11 @@
 """
 Generate performance documentation from benchmark results.
 Reads performance_results.csv and creates a markdown document with statistics and visualizations.
+If performance_metrics.csv (or .json) from `Main --metrics` exists, a per-phase breakdown is added.
 """
 
 import csv
+import json
 import sys
 from pathlib import Path
 from datetime import datetime
@@ -26,6 +28,54 @@ def create_bar_chart(value, max_value, width=40):
     filled = int((value / max_value) * width)
     return "█" * filled + "░" * (width - filled)
 
+PHASES = ['parse', 'build', 'search', 'verify']
+
+def load_metrics():
+    """Read the per-phase metrics written by `Main --metrics`, keyed by (day, step)."""
+    metrics = {}
+    csv_path = Path("performance_metrics.csv")
+    json_path = Path("performance_metrics.json")
+
+    if csv_path.exists():
+        with open(csv_path, 'r') as f:
+            for row in csv.DictReader(f):
+                entry = metrics.setdefault((int(row['Day']), row['Step']), {'phases': {}, 'counters': {}})
+                metric, value = row['Metric'], int(row['Value'])
+                if metric.startswith('counter.'):
+                    entry['counters'][metric[len('counter.'):]] = value
+                else:
+                    phase, kind = metric.split('.')
+                    entry['phases'].setdefault(phase, {})[kind] = value
+    elif json_path.exists():
+        with open(json_path, 'r') as f:
+            for report in json.load(f):
+                metrics[(report['day'], report['step'])] = {
+                    'phases': report['phases'],
+                    'counters': report['counters']
+                }
+
+    return metrics
+
+def render_metrics(metrics):
+    """Markdown section with phase times, allocations and solver counters."""
+    md = """
+## Phase Breakdown
+
+Recorded in one JVM with `Main --metrics`. Each input is parsed once and shared by both parts; nested phases are not counted in their parent, so a row's phases add up to the step.
+
+| Day | Step | Parse | Build | Search | Verify | Allocated | Counters |
+|-----|------|-------|-------|--------|--------|-----------|----------|
+"""
+    for (day, step), entry in sorted(metrics.items(), key=lambda item: (item[0][0], item[0][1] != 'parse', item[0][1])):
+        cells = []
+        for phase in PHASES:
+            nanos = entry['phases'].get(phase, {}).get('nanos')
+            cells.append(format_time(round(nanos / 1_000_000, 2)) if nanos is not None else "-")
+        allocated = sum(p.get('bytes', 0) for p in entry['phases'].values())
+        counters = ", ".join(f"{name}: {value:,}" for name, value in sorted(entry['counters'].items())) or "-"
+        md += f"| {day:2d} | {step} | " + " | ".join(cells) + f" | {allocated / (1024 * 1024):.1f} MB | {counters} |\n"
+    return md
+
 def main():
     csv_file = Path("performance_results.csv")
     output_file = Path("docs/performance.md")
@@ -171,6 +221,10 @@ Solutions are categorized by average execution time:
     if high_var:
         md_content += f"3. **High Variability**: Days {', '.join(str(d['day']) for d in high_var)} show high standard deviation (>10% of average), indicating non-deterministic performance or JVM optimization effects.\n\n"
 
+    metrics = load_metrics()
+    if metrics:
+        md_content += render_metrics(metrics)
+
     md_content += f"""
 ## Methodology
 
@@ -221,6 +275,8 @@ python3 scripts/generate_performance_doc.py
     print(f"  Fastest: Day {fastest_day['day']} ({format_time(fastest_day['avg'])})")
     print(f"  Slowest: Day {slowest_day['day']} ({format_time(slowest_day['avg'])})")
     print(f"  Combined average: {format_time(total_avg)}")
+    if metrics:
+        print(f"  Phase metrics: {len(metrics)} steps")
 
 if __name__ == '__main__':
     main()
@@ -2,21 +2,91 @@
 
 # Performance test script for Advent of Code 2025 solutions
 # Runs each day 100 times and collects timing statistics
+#
+# Usage: performance_test.sh [--mode harness|jvm|cds|native] [--baseline FILE]
+#   harness in-process Harness: JIT warm-up, then timed iterations (default)
+#   jvm     one java_binary process per run, so startup is included
+#   cds     java -jar with the AppCDS archive recorded at build time (DayNN_cds)
+#   native  GraalVM native image (DayNN_native, needs native-image on PATH or GRAALVM_HOME)
+#
+# --baseline compares the harness results with an earlier performance_results.csv and
+# fails on median regressions or changed answers.
 
 set -e
 
+MODE="harness"
+BASELINE=""
+while [ $# -gt 0 ]; do
+    case "$1" in
+        --mode)
+            MODE="$2"
+            shift 2
+            ;;
+        --baseline)
+            BASELINE="$2"
+            shift 2
+            ;;
+        *)
+            echo "Usage: $0 [--mode harness|jvm|cds|native] [--baseline FILE]" >&2
+            exit 1
+            ;;
+    esac
+done
+
+case "$MODE" in
+    harness)
+        SUFFIX=""
+        ;;
+    jvm|cds|native)
+        SUFFIX="_$MODE"
+        ;;
+    *)
+        echo "Unknown mode: $MODE (expected harness, jvm, cds or native)" >&2
+        exit 1
+        ;;
+esac
+
 ITERATIONS=100
-RESULTS_FILE="performance_results.txt"
-CSV_FILE="performance_results.csv"
+RESULTS_FILE="performance_results$SUFFIX.txt"
+CSV_FILE="performance_results$SUFFIX.csv"
 
 echo "=== Advent of Code 2025 Performance Test ===" | tee "$RESULTS_FILE"
+echo "Mode: $MODE" | tee -a "$RESULTS_FILE"
 echo "Running each solution $ITERATIONS times..." | tee -a "$RESULTS_FILE"
 echo "Started at: $(date)" | tee -a "$RESULTS_FILE"
 echo "" | tee -a "$RESULTS_FILE"
 
+if [ "$MODE" = "harness" ]; then
+    harness_args=(--warmup 10 --iterations "$ITERATIONS" --output "$CSV_FILE")
+    if [ -n "$BASELINE" ]; then
+        harness_args+=(--baseline "$BASELINE")
+    fi
+
+    # Relative paths are resolved against this directory by the harness
+    bazel run //src/main/com/stiksy/aoc2025:Harness -- "${harness_args[@]}" 2>/dev/null | tee -a "$RESULTS_FILE"
+    status=${PIPESTATUS[0]}
+
+    echo "" | tee -a "$RESULTS_FILE"
+    echo "=== Performance Test Complete ===" | tee -a "$RESULTS_FILE"
+    echo "Finished at: $(date)" | tee -a "$RESULTS_FILE"
+    echo "To generate performance documentation:" | tee -a "$RESULTS_FILE"
+    echo "  python3 scripts/generate_performance_doc.py" | tee -a "$RESULTS_FILE"
+    exit $status
+fi
+
 # Build all targets first
 echo "Building all solutions..." | tee -a "$RESULTS_FILE"
-bazel build //src/main/com/stiksy/aoc2025/... 2>&1 | grep -E "(INFO|Target)" | tail -5 | tee -a "$RESULTS_FILE"
+if [ "$MODE" = "jvm" ]; then
+    targets=("//src/main/com/stiksy/aoc2025/...")
+else
+    # The startup variants are tagged manual, so they have to be named explicitly
+    targets=()
+    for day in {1..12}; do
+        day_padded=$(printf "%02d" $day)
+        targets+=("//src/main/com/stiksy/aoc2025/day$day_padded:Day$day_padded$SUFFIX")
+    done
+fi
+bazel build "${targets[@]}" 2>&1 | grep -E "(INFO|Target)" | tail -5 | tee -a "$RESULTS_FILE"
 echo "" | tee -a "$RESULTS_FILE"
 
 # CSV header
@@ -38,22 +108,33 @@ test_day() {
 
     echo "Testing Day $day..." | tee -a "$RESULTS_FILE"
 
+    local package_dir="bazel-bin/src/main/com/stiksy/aoc2025/day$day_padded"
+
     # Check if the JAR exists
-    local jar_path="bazel-bin/src/main/com/stiksy/aoc2025/day$day_padded/Day$day_padded.jar"
-    if [ ! -f "$jar_path" ]; then
+    local jar_path="$package_dir/Day$day_padded.jar"
+    if [ "$MODE" = "jvm" ] && [ ! -f "$jar_path" ]; then
         echo "  Day $day JAR not found, skipping." | tee -a "$RESULTS_FILE"
         return
     fi
 
     # Get the deploy JAR path for standalone execution
-    local deploy_jar="bazel-bin/src/main/com/stiksy/aoc2025/day$day_padded/Day$day_padded"
+    local deploy_jar="$package_dir/Day$day_padded"
+    if [ "$MODE" = "cds" ]; then
+        deploy_jar="$package_dir/Day${day_padded}_cds.sh"
+    elif [ "$MODE" = "native" ]; then
+        deploy_jar="$package_dir/Day${day_padded}_native"
+    fi
+    if [ "$MODE" != "jvm" ] && [ ! -x "$deploy_jar" ]; then
+        echo "  Day $day $MODE executable not found, skipping." | tee -a "$RESULTS_FILE"
+        return
+    fi
 
     # Array to store execution times
     times=()
     output=""
 
-    # Warm-up runs (JVM optimization)
-    echo "  Warming up JVM..." | tee -a "$RESULTS_FILE"
+    # Warm-up runs (file system cache, and JVM optimization where there is a JVM)
+    echo "  Warming up..." | tee -a "$RESULTS_FILE"
     for i in {1..10}; do
         $deploy_jar > /dev/null 2>&1 || java -jar "$jar_path" > /dev/null 2>&1
     done
@@ -0,0 +1,46 @@
+package com.stiksy.aoc2025.bench;
+
+import com.stiksy.aoc2025.day01.Day01;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+public class Day01Benchmark extends SolverBenchmark {
+
+    @Param({"1", "10", "100"})
+    public int scale;
+
+    private byte[] bytes;
+    private int[] deltas;
+
+    @Setup
+    public void setup() {
+        List<String> input = ScaledInput.repeatLines(ScaledInput.load(1), scale);
+        prepare(new Day01(), input);
+        bytes = String.join("\n", input).getBytes(StandardCharsets.US_ASCII);
+        deltas = Day01.decode(bytes);
+    }
+
+    @Benchmark
+    public int[] batchDecode() {
+        return Day01.decode(bytes);
+    }
+
+    @Benchmark
+    public long batchPart1() {
+        return Day01.countZeroLandings(deltas);
+    }
+
+    @Benchmark
+    public long batchPart2() {
+        return Day01.countZeroPasses(deltas);
+    }
+
+    @Benchmark
+    public long parallelPart2() {
+        return Day01.countZeroPasses(deltas, Runtime.getRuntime().availableProcessors());
+    }
+}
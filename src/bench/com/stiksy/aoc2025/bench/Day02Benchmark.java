@@ -0,0 +1,16 @@
+package com.stiksy.aoc2025.bench;
+
+import com.stiksy.aoc2025.day02.Day02;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+public class Day02Benchmark extends SolverBenchmark {
+
+    @Param({"1", "4"})
+    public int scale;
+
+    @Setup
+    public void setup() {
+        prepare(new Day02(), ScaledInput.commaList(ScaledInput.load(2), scale));
+    }
+}
@@ -0,0 +1,31 @@
+package com.stiksy.aoc2025.bench;
+
+import com.stiksy.aoc2025.day03.Day03;
+import com.stiksy.aoc2025.util.MappedInput;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+public class Day03Benchmark extends SolverBenchmark {
+
+    @Param({"1", "10", "100"})
+    public int scale;
+
+    private final Day03 day03 = new Day03();
+    private MappedInput bytes;
+
+    @Setup
+    public void setup() {
+        List<String> input = ScaledInput.repeatLines(ScaledInput.load(3), scale);
+        prepare(day03, input);
+        bytes = MappedInput.wrap(String.join("\n", input).getBytes(StandardCharsets.US_ASCII));
+    }
+
+    @Benchmark
+    public long parallelPart2() {
+        return day03.solvePart2(bytes, Runtime.getRuntime().availableProcessors());
+    }
+}
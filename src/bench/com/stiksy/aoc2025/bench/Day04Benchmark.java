@@ -0,0 +1,29 @@
+package com.stiksy.aoc2025.bench;
+
+import com.stiksy.aoc2025.day04.Day04;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+import java.util.List;
+
+public class Day04Benchmark extends SolverBenchmark {
+
+    @Param({"1", "4", "16"})
+    public int scale;
+
+    private final Day04 day04 = new Day04();
+    private List<String> input;
+
+    @Setup
+    public void setup() {
+        input = ScaledInput.tileGrid(ScaledInput.load(4), scale);
+        prepare(day04, input);
+    }
+
+    /** Round-synchronous removal in row bands, one per core. */
+    @Benchmark
+    public long bandedPart2() {
+        return day04.solvePart2(input, Runtime.getRuntime().availableProcessors());
+    }
+}
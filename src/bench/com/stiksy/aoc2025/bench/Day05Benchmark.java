@@ -0,0 +1,31 @@
+package com.stiksy.aoc2025.bench;
+
+import com.stiksy.aoc2025.day05.Day05;
+import com.stiksy.aoc2025.util.MappedInput;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+public class Day05Benchmark extends SolverBenchmark {
+
+    @Param({"1", "10", "100"})
+    public int scale;
+
+    private final Day05 day05 = new Day05();
+    private MappedInput bytes;
+
+    @Setup
+    public void setup() {
+        List<String> input = ScaledInput.rangesAndIds(ScaledInput.load(5), scale);
+        prepare(day05, input);
+        bytes = MappedInput.wrap(String.join("\n", input).getBytes(StandardCharsets.US_ASCII));
+    }
+
+    @Benchmark
+    public long sortMergePart1() {
+        return day05.solvePart1(bytes);
+    }
+}
@@ -0,0 +1,16 @@
+package com.stiksy.aoc2025.bench;
+
+import com.stiksy.aoc2025.day06.Day06;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+public class Day06Benchmark extends SolverBenchmark {
+
+    @Param({"1", "10", "100"})
+    public int scale;
+
+    @Setup
+    public void setup() {
+        prepare(new Day06(), ScaledInput.sideBySide(ScaledInput.load(6), scale));
+    }
+}
@@ -0,0 +1,16 @@
+package com.stiksy.aoc2025.bench;
+
+import com.stiksy.aoc2025.day07.Day07;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+public class Day07Benchmark extends SolverBenchmark {
+
+    @Param({"1", "10", "100"})
+    public int scale;
+
+    @Setup
+    public void setup() {
+        prepare(new Day07(), ScaledInput.stackGrid(ScaledInput.load(7), scale));
+    }
+}
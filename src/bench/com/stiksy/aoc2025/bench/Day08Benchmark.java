@@ -0,0 +1,16 @@
+package com.stiksy.aoc2025.bench;
+
+import com.stiksy.aoc2025.day08.Day08;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+public class Day08Benchmark extends SolverBenchmark {
+
+    @Param({"1", "2", "4"})
+    public int scale;
+
+    @Setup
+    public void setup() {
+        prepare(new Day08(), ScaledInput.translatedPoints(ScaledInput.load(8), scale));
+    }
+}
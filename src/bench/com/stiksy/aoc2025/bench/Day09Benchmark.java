@@ -0,0 +1,25 @@
+package com.stiksy.aoc2025.bench;
+
+import com.stiksy.aoc2025.day09.Day09;
+import com.stiksy.aoc2025.util.InputGenerator;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+import java.util.List;
+
+public class Day09Benchmark extends SolverBenchmark {
+
+    @Param({"1", "2", "4"})
+    public int scale;
+
+    @Setup
+    public void setup() {
+        List<String> input = ScaledInput.load(9);
+        // The polygon cannot be replicated without changing its shape, so larger scales
+        // use a generated polygon with scale times as many vertices
+        if (scale > 1) {
+            input = InputGenerator.generate(9, input.size() * scale, InputGenerator.DEFAULT_SEED);
+        }
+        prepare(new Day09(), input);
+    }
+}
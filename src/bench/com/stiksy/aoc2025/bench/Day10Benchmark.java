@@ -0,0 +1,16 @@
+package com.stiksy.aoc2025.bench;
+
+import com.stiksy.aoc2025.day10.Day10;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+public class Day10Benchmark extends SolverBenchmark {
+
+    @Param({"1", "4"})
+    public int scale;
+
+    @Setup
+    public void setup() {
+        prepare(new Day10(), ScaledInput.repeatLines(ScaledInput.load(10), scale));
+    }
+}
@@ -0,0 +1,17 @@
+package com.stiksy.aoc2025.bench;
+
+import com.stiksy.aoc2025.day11.Day11;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+public class Day11Benchmark extends SolverBenchmark {
+
+    // Device names are unique keys, so only the puzzle size is run
+    @Param({"1"})
+    public int scale;
+
+    @Setup
+    public void setup() {
+        prepare(new Day11(), ScaledInput.load(11));
+    }
+}
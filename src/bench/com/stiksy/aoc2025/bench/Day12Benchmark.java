@@ -0,0 +1,16 @@
+package com.stiksy.aoc2025.bench;
+
+import com.stiksy.aoc2025.day12.Day12;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+public class Day12Benchmark extends SolverBenchmark {
+
+    @Param({"1", "4"})
+    public int scale;
+
+    @Setup
+    public void setup() {
+        prepare(new Day12(), ScaledInput.repeatRegions(ScaledInput.load(12), scale));
+    }
+}
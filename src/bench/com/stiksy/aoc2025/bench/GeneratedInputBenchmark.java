@@ -0,0 +1,26 @@
+package com.stiksy.aoc2025.bench;
+
+import com.stiksy.aoc2025.util.InputGenerator;
+import com.stiksy.aoc2025.util.Solver;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+/**
+ * Scaling runs on synthetic inputs from {@link InputGenerator}, for the days whose solvers
+ * are linear in the input. The meaning of {@code size} per day is listed on the generator.
+ */
+public class GeneratedInputBenchmark extends SolverBenchmark {
+
+    @Param({"1", "3", "5", "6"})
+    public int day;
+
+    @Param({"10000", "100000", "1000000"})
+    public int size;
+
+    @Setup
+    public void setup() throws ReflectiveOperationException {
+        String className = String.format("com.stiksy.aoc2025.day%02d.Day%02d", day, day);
+        Solver<?> solver = (Solver<?>) Class.forName(className).getDeclaredConstructor().newInstance();
+        prepare(solver, InputGenerator.generate(day, size, InputGenerator.DEFAULT_SEED));
+    }
+}
@@ -0,0 +1,54 @@
+package com.stiksy.aoc2025.bench;
+
+import com.stiksy.aoc2025.util.InputReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.LongBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Boxed String parsing (the readLongs / split path the days use today) against the
+ * primitive byte-level readers, on the Day 2 ranges, Day 8 triples and Day 9 pairs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InputReaderBenchmark {
+
+    @Param({"day02/input.txt", "day08/input.txt", "day09/input.txt"})
+    public String file;
+
+    @Benchmark
+    public List<Long> boxedSplit() {
+        return InputReader.readLines(file).stream()
+                .flatMap(line -> Arrays.stream(line.split("[,\\-]")))
+                .filter(token -> !token.isEmpty())
+                .map(Long::parseLong)
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public long[] primitiveArray() {
+        return InputReader.readLongArray(file, ",-");
+    }
+
+    @Benchmark
+    public LongBuffer primitiveBuffer() {
+        return InputReader.readLongBuffer(file, ",-");
+    }
+}
@@ -0,0 +1,127 @@
+package com.stiksy.aoc2025.bench;
+
+import com.stiksy.aoc2025.day02.Day02;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The Day 2 repeated-pattern checks: String/substring against the arithmetic versions, over
+ * IDs of the given digit length. About one in eight IDs is built as a repetition so both
+ * outcomes are exercised. Setup fails if the two versions disagree on any ID of any length.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RepetitionCheckBenchmark {
+
+    private static final int IDS = 4096;
+
+    @Param({"6", "10", "12", "19"})
+    public int digits;
+
+    private final Day02 day02 = new Day02();
+    private long[] ids;
+
+    @Setup
+    public void setup() {
+        for (int length = 1; length <= 19; length++) {
+            for (long id : ids(length, 2025 + length)) {
+                if (day02.isInvalidId(id) != Day02.repeatsTwice(id)
+                        || day02.isInvalidIdPart2(id) != Day02.repeatsAtLeastTwice(id)) {
+                    throw new IllegalStateException("String and arithmetic checks disagree on " + id);
+                }
+            }
+        }
+        ids = ids(digits, 2025);
+    }
+
+    /** Random IDs of {@code length} digits, with every eighth one a repeated pattern. */
+    static long[] ids(int length, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        long low = length == 1 ? 0 : pow10(length - 1);
+        long high = length == 19 ? Long.MAX_VALUE : pow10(length) - 1;
+
+        long[] ids = new long[IDS];
+        for (int i = 0; i < IDS; i++) {
+            long id = low + (long) (random.nextDouble() * (high - low));
+            if (i % 8 == 0 && length > 1) {
+                int[] patternLengths = {1, length / 2, length / 3};
+                int patternLength = Math.max(1, patternLengths[random.nextInt(patternLengths.length)]);
+                String repeated = Long.toString(id).substring(0, patternLength).repeat(length / patternLength);
+                // 9999999999999999999 is past Long.MAX_VALUE; same-length decimal strings compare numerically
+                if (length % patternLength == 0 && (length < 19 || repeated.compareTo(Long.toString(Long.MAX_VALUE)) <= 0)) {
+                    id = Long.parseLong(repeated);
+                }
+            }
+            ids[i] = id;
+        }
+        return ids;
+    }
+
+    private static long pow10(int exponent) {
+        long value = 1;
+        for (int i = 0; i < exponent; i++) {
+            value *= 10;
+        }
+        return value;
+    }
+
+    @Benchmark
+    public int stringPart1() {
+        int invalid = 0;
+        for (long id : ids) {
+            if (day02.isInvalidId(id)) {
+                invalid++;
+            }
+        }
+        return invalid;
+    }
+
+    @Benchmark
+    public int arithmeticPart1() {
+        int invalid = 0;
+        for (long id : ids) {
+            if (Day02.repeatsTwice(id)) {
+                invalid++;
+            }
+        }
+        return invalid;
+    }
+
+    @Benchmark
+    public int stringPart2() {
+        int invalid = 0;
+        for (long id : ids) {
+            if (day02.isInvalidIdPart2(id)) {
+                invalid++;
+            }
+        }
+        return invalid;
+    }
+
+    @Benchmark
+    public int arithmeticPart2() {
+        int invalid = 0;
+        for (long id : ids) {
+            if (Day02.repeatsAtLeastTwice(id)) {
+                invalid++;
+            }
+        }
+        return invalid;
+    }
+}
@@ -0,0 +1,113 @@
+package com.stiksy.aoc2025.bench;
+
+import com.stiksy.aoc2025.util.InputReader;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Builds larger benchmark inputs by replicating the puzzle input in a way that keeps
+ * each day's format valid.
+ */
+final class ScaledInput {
+
+    private ScaledInput() {
+    }
+
+    static List<String> load(int day) {
+        return InputReader.readLines(String.format("day%02d/input.txt", day));
+    }
+
+    /** Days whose lines are independent records (Day 1, 3, 10). */
+    static List<String> repeatLines(List<String> lines, int factor) {
+        List<String> scaled = new ArrayList<>(lines.size() * factor);
+        for (int i = 0; i < factor; i++) {
+            scaled.addAll(lines);
+        }
+        return scaled;
+    }
+
+    /** Day 2: the ranges are one comma-separated list. */
+    static List<String> commaList(List<String> lines, int factor) {
+        String ranges = String.join("", lines).trim();
+        List<String> copies = new ArrayList<>(factor);
+        for (int i = 0; i < factor; i++) {
+            copies.add(ranges);
+        }
+        return List.of(String.join(",", copies));
+    }
+
+    /** Day 4: tile the grid factor x factor times. */
+    static List<String> tileGrid(List<String> lines, int factor) {
+        List<String> scaled = new ArrayList<>(lines.size() * factor);
+        for (int i = 0; i < factor; i++) {
+            for (String line : lines) {
+                scaled.add(line.repeat(factor));
+            }
+        }
+        return scaled;
+    }
+
+    /** Day 5: repeat the range section and the ID section separately. */
+    static List<String> rangesAndIds(List<String> lines, int factor) {
+        int blank = lines.indexOf("");
+        List<String> ranges = lines.subList(0, blank);
+        List<String> ids = lines.subList(blank + 1, lines.size());
+
+        List<String> scaled = new ArrayList<>(repeatLines(ranges, factor));
+        scaled.add("");
+        scaled.addAll(repeatLines(ids, factor));
+        return scaled;
+    }
+
+    /** Day 6: place copies of the worksheet side by side, separated by a blank column. */
+    static List<String> sideBySide(List<String> lines, int factor) {
+        int width = 0;
+        for (String line : lines) {
+            width = Math.max(width, line.length());
+        }
+
+        List<String> scaled = new ArrayList<>(lines.size());
+        for (String line : lines) {
+            String padded = line + " ".repeat(width - line.length() + 1);
+            scaled.add(padded.repeat(factor).stripTrailing());
+        }
+        return scaled;
+    }
+
+    /** Day 7: stack copies of the manifold below each other, keeping a single start. */
+    static List<String> stackGrid(List<String> lines, int factor) {
+        List<String> scaled = new ArrayList<>(lines);
+        for (int i = 1; i < factor; i++) {
+            for (String line : lines) {
+                scaled.add(line.replace('S', '.'));
+            }
+        }
+        return scaled;
+    }
+
+    /** Day 8: translated copies of the junction boxes, far enough apart to stay separate clusters. */
+    static List<String> translatedPoints(List<String> lines, int factor) {
+        List<String> scaled = new ArrayList<>(lines.size() * factor);
+        for (int i = 0; i < factor; i++) {
+            for (String line : lines) {
+                String[] parts = line.split(",");
+                int x = Integer.parseInt(parts[0]) + i * 1_000_000;
+                scaled.add(x + "," + parts[1] + "," + parts[2]);
+            }
+        }
+        return scaled;
+    }
+
+    /** Day 12: keep the shapes and repeat the region lines. */
+    static List<String> repeatRegions(List<String> lines, int factor) {
+        int firstRegion = 0;
+        while (firstRegion < lines.size() && !lines.get(firstRegion).contains("x")) {
+            firstRegion++;
+        }
+
+        List<String> scaled = new ArrayList<>(lines.subList(0, firstRegion));
+        scaled.addAll(repeatLines(lines.subList(firstRegion, lines.size()), factor));
+        return scaled;
+    }
+}
@@ -0,0 +1,54 @@
+package com.stiksy.aoc2025.bench;
+
+import com.stiksy.aoc2025.util.Solver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Common benchmarks for a {@link Solver}: parsing, and each part against a model parsed once
+ * in the subclass's {@code @Setup}, so the part scores exclude parsing.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public abstract class SolverBenchmark {
+
+    private Solver<Object> solver;
+    private List<String> input;
+    private Object model;
+
+    @SuppressWarnings("unchecked")
+    protected void prepare(Solver<?> solver, List<String> input) {
+        this.solver = (Solver<Object>) solver;
+        this.input = input;
+        this.model = solver.parse(input);
+    }
+
+    @Benchmark
+    public Object parse() {
+        return solver.parse(input);
+    }
+
+    @Benchmark
+    public long part1() {
+        return solver.part1(model);
+    }
+
+    @Benchmark
+    public long part2() {
+        return solver.part2(model);
+    }
+}
@@ -0,0 +1,225 @@
+package com.stiksy.aoc2025;
+
+import com.stiksy.aoc2025.util.InputReader;
+import com.stiksy.aoc2025.util.LatencyHistogram;
+import com.stiksy.aoc2025.util.Solver;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * In-process benchmark harness behind {@code scripts/performance_test.sh}.
+ *
+ * <pre>
+ * Harness [--warmup N] [--iterations N] [--output FILE] [--baseline FILE] [--threshold PERCENT] [DAY ...]
+ * </pre>
+ *
+ * Each day is warmed up in the same JVM, so the JIT has compiled the hot paths, then timed
+ * for N iterations of parse, part 1 and part 2. Every step gets its own
+ * {@link LatencyHistogram}. The day totals are written in the {@code performance_results.csv}
+ * schema the docs script reads.
+ *
+ * With {@code --baseline}, a day whose median is more than PERCENT (default 10) slower than the
+ * baseline, or whose answers differ from it, is reported as a regression and the exit status is 1.
+ */
+public class Harness {
+
+    static final String CSV_HEADER = "Day,Min(ms),Max(ms),Avg(ms),Median(ms),P95(ms),StdDev(ms),Part1_Answer,Part2_Answer";
+
+    static final String[] STEPS = {"parse", "part1", "part2", "total"};
+
+    /** Histograms for one day, keyed by step, plus the answers. */
+    static class DayResult {
+        final int day;
+        final Map<String, LatencyHistogram> histograms = new LinkedHashMap<>();
+        long part1;
+        long part2;
+
+        DayResult(int day) {
+            this.day = day;
+            for (String step : STEPS) {
+                histograms.put(step, new LatencyHistogram());
+            }
+        }
+
+        LatencyHistogram total() {
+            return histograms.get("total");
+        }
+
+        String csvRow() {
+            LatencyHistogram total = total();
+            return String.format(Locale.ROOT, "%d,%.2f,%.2f,%.2f,%.2f,%.2f,%.2f,%d,%d", day,
+                    millis(total.min()), millis(total.max()), total.mean() / 1e6,
+                    millis(total.valueAtPercentile(50)), millis(total.valueAtPercentile(95)),
+                    total.stdDev() / 1e6, part1, part2);
+        }
+    }
+
+    /** One row of a stored {@code performance_results.csv}. */
+    static class BaselineRow {
+        final double median;
+        final String part1;
+        final String part2;
+
+        BaselineRow(double median, String part1, String part2) {
+            this.median = median;
+            this.part1 = part1;
+            this.part2 = part2;
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        int warmup = 10;
+        int iterations = 100;
+        double threshold = 10;
+        Path output = null;
+        Path baseline = null;
+        List<Integer> days = new ArrayList<>();
+
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--warmup" -> warmup = Integer.parseInt(args[++i]);
+                case "--iterations" -> iterations = Integer.parseInt(args[++i]);
+                case "--threshold" -> threshold = Double.parseDouble(args[++i]);
+                case "--output" -> output = resolve(args[++i]);
+                case "--baseline" -> baseline = resolve(args[++i]);
+                default -> days.add(Integer.parseInt(args[i]));
+            }
+        }
+
+        Map<Integer, Solver<?>> solvers = Runner.discover();
+        if (days.isEmpty()) {
+            days.addAll(solvers.keySet());
+        }
+
+        List<DayResult> results = new ArrayList<>();
+        for (int day : days) {
+            Solver<?> solver = solvers.get(day);
+            if (solver == null) {
+                throw new IllegalArgumentException("Day " + day + " is not available");
+            }
+            System.out.printf("Day %d: %d warm-up, %d measured iterations%n", day, warmup, iterations);
+            DayResult result = measure(day, solver, InputReader.readLines(String.format("day%02d/input.txt", day)),
+                    warmup, iterations);
+            print(result);
+            results.add(result);
+        }
+
+        if (output != null) {
+            Files.writeString(output, toCsv(results));
+            System.out.println("Results saved to " + output);
+        }
+
+        if (baseline != null) {
+            List<String> regressions = compare(results, readBaseline(baseline), threshold);
+            if (regressions.isEmpty()) {
+                System.out.printf("No regressions against %s (threshold %.0f%%)%n", baseline, threshold);
+            } else {
+                regressions.forEach(System.out::println);
+                System.exit(1);
+            }
+        }
+    }
+
+    /** {@code bazel run} starts in the runfiles tree, so relative paths follow the caller's directory. */
+    private static Path resolve(String path) {
+        String workingDirectory = System.getenv("BUILD_WORKING_DIRECTORY");
+        return workingDirectory == null ? Paths.get(path) : Paths.get(workingDirectory).resolve(path);
+    }
+
+    @SuppressWarnings("unchecked")
+    static DayResult measure(int day, Solver<?> solver, List<String> input, int warmup, int iterations) {
+        Solver<Object> typed = (Solver<Object>) solver;
+        DayResult result = new DayResult(day);
+
+        for (int i = 0; i < warmup + iterations; i++) {
+            long start = System.nanoTime();
+            Object model = typed.parse(input);
+            long parsed = System.nanoTime();
+            long part1 = typed.part1(model);
+            long solved1 = System.nanoTime();
+            long part2 = typed.part2(model);
+            long solved2 = System.nanoTime();
+
+            if (i > 0 && (part1 != result.part1 || part2 != result.part2)) {
+                throw new IllegalStateException("Day " + day + " answers changed between iterations");
+            }
+            result.part1 = part1;
+            result.part2 = part2;
+
+            if (i >= warmup) {
+                result.histograms.get("parse").record(parsed - start);
+                result.histograms.get("part1").record(solved1 - parsed);
+                result.histograms.get("part2").record(solved2 - solved1);
+                result.total().record(solved2 - start);
+            }
+        }
+        return result;
+    }
+
+    private static void print(DayResult result) {
+        System.out.printf("  %-6s %10s %10s %10s %10s %10s%n", "", "min", "p50", "p90", "p99", "max");
+        for (Map.Entry<String, LatencyHistogram> entry : result.histograms.entrySet()) {
+            LatencyHistogram histogram = entry.getValue();
+            System.out.printf(Locale.ROOT, "  %-6s %8.2fms %8.2fms %8.2fms %8.2fms %8.2fms%n", entry.getKey(),
+                    millis(histogram.min()), millis(histogram.valueAtPercentile(50)),
+                    millis(histogram.valueAtPercentile(90)), millis(histogram.valueAtPercentile(99)),
+                    millis(histogram.max()));
+        }
+        System.out.println("  Part 1: " + result.part1);
+        System.out.println("  Part 2: " + result.part2);
+    }
+
+    static String toCsv(List<DayResult> results) {
+        StringBuilder csv = new StringBuilder(CSV_HEADER).append('\n');
+        for (DayResult result : results) {
+            csv.append(result.csvRow()).append('\n');
+        }
+        return csv.toString();
+    }
+
+    static Map<Integer, BaselineRow> readBaseline(Path path) throws IOException {
+        Map<Integer, BaselineRow> rows = new LinkedHashMap<>();
+        List<String> lines = Files.readAllLines(path);
+        for (String line : lines.subList(1, lines.size())) {
+            if (line.isBlank()) {
+                continue;
+            }
+            String[] fields = line.split(",");
+            rows.put(Integer.parseInt(fields[0]), new BaselineRow(Double.parseDouble(fields[4]), fields[7], fields[8]));
+        }
+        return rows;
+    }
+
+    /** Describe every day that is slower than the baseline by more than the threshold or answers differently. */
+    static List<String> compare(List<DayResult> results, Map<Integer, BaselineRow> baseline, double thresholdPercent) {
+        List<String> regressions = new ArrayList<>();
+        for (DayResult result : results) {
+            BaselineRow row = baseline.get(result.day);
+            if (row == null) {
+                continue;
+            }
+            if (!row.part1.equals(Long.toString(result.part1)) || !row.part2.equals(Long.toString(result.part2))) {
+                regressions.add(String.format("REGRESSION Day %d: answers %d/%d, baseline %s/%s",
+                        result.day, result.part1, result.part2, row.part1, row.part2));
+            }
+            double median = millis(result.total().valueAtPercentile(50));
+            if (median > row.median * (1 + thresholdPercent / 100)) {
+                regressions.add(String.format(Locale.ROOT, "REGRESSION Day %d: median %.2fms, baseline %.2fms (+%.0f%%)",
+                        result.day, median, row.median, (median / row.median - 1) * 100));
+            }
+        }
+        return regressions;
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1e6;
+    }
+}
@@ -1,11 +1,114 @@
 package com.stiksy.aoc2025;
 
+import com.stiksy.aoc2025.util.Metrics;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Multi-day runner.
+ *
+ * <pre>
+ * Main [--parallel [THREADS]] [--metrics [FILE]] [DAY | DAY.PART ...]
+ * </pre>
+ *
+ * Without a selection every available day runs, both parts. {@code --parallel} spreads the
+ * parts over a thread pool (one thread per core by default). Each day's input is parsed
+ * once and reported on its own line; the parts then only time the solving.
+ *
+ * {@code --metrics} records per-phase times, allocations and solver counters (see
+ * {@link Metrics}) and writes them to FILE, as JSON if it ends in {@code .json} and CSV
+ * otherwise (default {@value #METRICS_FILE}). Counters are global, so it runs on one thread.
+ */
 public class Main {
-    public static void main(String[] args) {
-        System.out.println("Hello World!");
+
+    static final String METRICS_FILE = "performance_metrics.csv";
+
+    public static void main(String[] args) throws InterruptedException, IOException {
+        Runner runner = new Runner(Runner.discover());
+        int threads = 1;
+        List<String> selection = new ArrayList<>();
+        Path metricsFile = null;
+
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("--parallel")) {
+                threads = Runtime.getRuntime().availableProcessors();
+                if (i + 1 < args.length && args[i + 1].matches("\\d+")) {
+                    threads = Integer.parseInt(args[++i]);
+                }
+            } else if (args[i].equals("--metrics")) {
+                metricsFile = Paths.get(METRICS_FILE);
+                if (i + 1 < args.length && !args[i + 1].matches("[\\d.]+") && !args[i + 1].startsWith("--")) {
+                    metricsFile = Paths.get(args[++i]);
+                }
+            } else {
+                selection.add(args[i]);
+            }
+        }
+
+        if (metricsFile != null) {
+            Metrics.setEnabled(true);
+            threads = 1;
+        }
+
+        List<Runner.Task> tasks = parseTasks(selection, runner);
+        long start = System.nanoTime();
+        List<Runner.Result> results = runner.run(tasks, threads);
+        long elapsed = System.nanoTime() - start;
+
+        long solverNanos = 0;
+        for (Map.Entry<Integer, Long> parse : runner.parseNanos().entrySet()) {
+            System.out.printf("Day %02d Parse:  %-20s %,15d ns%n", parse.getKey(), "", parse.getValue());
+            solverNanos += parse.getValue();
+        }
+        for (Runner.Result result : results) {
+            System.out.println(result);
+            solverNanos += result.nanos;
+        }
+        System.out.printf("Total solver time: %,d ns (wall %,d ns, %d thread(s))%n", solverNanos, elapsed, threads);
+
+        if (metricsFile != null) {
+            List<Metrics.Report> reports = runner.reports();
+            String content = metricsFile.toString().endsWith(".json") ? Metrics.toJson(reports) : Metrics.toCsv(reports);
+            Files.writeString(metricsFile, content);
+            System.out.println("Metrics written to " + metricsFile);
+        }
+    }
+
+    /** Turn "3" (both parts of day 3) and "3.2" (part 2 only) into tasks. */
+    static List<Runner.Task> parseTasks(List<String> selection, Runner runner) {
+        List<Runner.Task> tasks = new ArrayList<>();
+        if (selection.isEmpty()) {
+            for (int day : runner.solvers().keySet()) {
+                tasks.add(new Runner.Task(day, 1));
+                tasks.add(new Runner.Task(day, 2));
+            }
+            return tasks;
+        }
+
+        for (String item : selection) {
+            String[] parts = item.split("\\.");
+            int day = Integer.parseInt(parts[0]);
+            if (parts.length == 1) {
+                tasks.add(new Runner.Task(day, 1));
+                tasks.add(new Runner.Task(day, 2));
+            } else {
+                int part = Integer.parseInt(parts[1]);
+                if (part != 1 && part != 2) {
+                    throw new IllegalArgumentException("Part must be 1 or 2: " + item);
+                }
+                tasks.add(new Runner.Task(day, part));
+            }
+        }
+        return tasks;
     }
 
     public static int constant4() {
         return 4;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,201 @@
+package com.stiksy.aoc2025;
+
+import com.stiksy.aoc2025.util.InputReader;
+import com.stiksy.aoc2025.util.Metrics;
+import com.stiksy.aoc2025.util.Solver;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Runs any selection of days and parts inside one JVM, so timings reflect the solvers
+ * rather than process startup. Input files are read before the clock starts.
+ *
+ * Each day's input is parsed once, timed on its own, and the model is shared by both parts
+ * (and by later runs), so e.g. the Day 8 edge list is only built once.
+ */
+public class Runner {
+
+    public static final int LAST_DAY = 12;
+
+    static class Task {
+        final int day;
+        final int part;
+
+        Task(int day, int part) {
+            this.day = day;
+            this.part = part;
+        }
+    }
+
+    static class Result {
+        final int day;
+        final int part;
+        final long answer;
+        final long nanos;
+
+        Result(int day, int part, long answer, long nanos) {
+            this.day = day;
+            this.part = part;
+            this.answer = answer;
+            this.nanos = nanos;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Day %02d Part %d: %-20d %,15d ns", day, part, answer, nanos);
+        }
+    }
+
+    private final Map<Integer, Solver<?>> solvers;
+    private final Map<Integer, List<String>> inputs = new TreeMap<>();
+    private final Map<Integer, Object> models = new ConcurrentHashMap<>();
+    private final Map<Integer, Long> parseNanos = new ConcurrentHashMap<>();
+    private final List<Metrics.Report> reports = Collections.synchronizedList(new ArrayList<>());
+
+    Runner(Map<Integer, Solver<?>> solvers) {
+        this.solvers = solvers;
+    }
+
+    /**
+     * Find the day solutions on the classpath by their naming convention
+     * ({@code com.stiksy.aoc2025.dayNN.DayNN}). Days that are missing are skipped.
+     */
+    static Map<Integer, Solver<?>> discover() {
+        Map<Integer, Solver<?>> solvers = new TreeMap<>();
+        for (int day = 1; day <= LAST_DAY; day++) {
+            String className = String.format("com.stiksy.aoc2025.day%02d.Day%02d", day, day);
+            try {
+                Class<?> type = Class.forName(className);
+                if (Solver.class.isAssignableFrom(type)) {
+                    solvers.put(day, (Solver<?>) type.getDeclaredConstructor().newInstance());
+                }
+            } catch (ClassNotFoundException e) {
+                // Day not built into this binary
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("Cannot instantiate " + className, e);
+            }
+        }
+        return solvers;
+    }
+
+    Map<Integer, Solver<?>> solvers() {
+        return solvers;
+    }
+
+    /** Time spent parsing each day's input, for the days parsed so far. */
+    Map<Integer, Long> parseNanos() {
+        return new TreeMap<>(parseNanos);
+    }
+
+    /** Metrics of every parse and part run so far, when {@link Metrics} is enabled. */
+    List<Metrics.Report> reports() {
+        return new ArrayList<>(reports);
+    }
+
+    List<Result> run(List<Task> tasks, int threads) throws InterruptedException {
+        Set<Integer> days = new TreeSet<>();
+        for (Task task : tasks) {
+            if (!solvers.containsKey(task.day)) {
+                throw new IllegalArgumentException("Day " + task.day + " is not available");
+            }
+            inputs.computeIfAbsent(task.day, day -> InputReader.readLines(String.format("day%02d/input.txt", day)));
+            days.add(task.day);
+        }
+
+        List<Callable<Result>> parses = new ArrayList<>();
+        for (int day : days) {
+            if (!models.containsKey(day)) {
+                parses.add(() -> {
+                    parse(day);
+                    return null;
+                });
+            }
+        }
+        List<Callable<Result>> parts = new ArrayList<>();
+        for (Task task : tasks) {
+            parts.add(() -> execute(task));
+        }
+
+        if (threads <= 1) {
+            try {
+                for (Callable<Result> parse : parses) {
+                    parse.call();
+                }
+                List<Result> results = new ArrayList<>();
+                for (Callable<Result> part : parts) {
+                    results.add(part.call());
+                }
+                return results;
+            } catch (Exception e) {
+                throw new IllegalStateException("Solver failed", e);
+            }
+        }
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            invokeAll(pool, parses);
+            return invokeAll(pool, parts);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private static List<Result> invokeAll(ExecutorService pool, List<Callable<Result>> calls) throws InterruptedException {
+        List<Result> results = new ArrayList<>();
+        try {
+            for (Future<Result> future : pool.invokeAll(calls)) {
+                results.add(future.get());
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Solver failed", e.getCause());
+        }
+        return results;
+    }
+
+    private void parse(int day) {
+        Solver<?> solver = solvers.get(day);
+        List<String> input = inputs.get(day);
+
+        Metrics.begin(day, "parse", Metrics.Phase.PARSE);
+        long start = System.nanoTime();
+        Object model = solver.parse(input);
+        long elapsed = System.nanoTime() - start;
+        record(Metrics.end());
+
+        models.put(day, model);
+        parseNanos.put(day, elapsed);
+    }
+
+    private Result execute(Task task) {
+        @SuppressWarnings("unchecked")
+        Solver<Object> solver = (Solver<Object>) solvers.get(task.day);
+        Object model = models.get(task.day);
+
+        // Solving is a search unless the solver marks build or verify phases inside it
+        Metrics.begin(task.day, "part" + task.part, Metrics.Phase.SEARCH);
+        long start = System.nanoTime();
+        long answer = task.part == 1 ? solver.part1(model) : solver.part2(model);
+        long elapsed = System.nanoTime() - start;
+        record(Metrics.end());
+
+        return new Result(task.day, task.part, answer, elapsed);
+    }
+
+    private void record(Metrics.Report report) {
+        if (report != null) {
+            reports.add(report);
+        }
+    }
+}
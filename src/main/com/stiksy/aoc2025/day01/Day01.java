@@ -1,10 +1,23 @@
 package com.stiksy.aoc2025.day01;
 
 import com.stiksy.aoc2025.util.InputReader;
+import com.stiksy.aoc2025.util.LineCursor;
+import com.stiksy.aoc2025.util.MappedInput;
+import com.stiksy.aoc2025.util.Solver;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
-public class Day01 {
+public class Day01 implements Solver<List<String>> {
+
+    /** A multiple of 100 larger than any int, added so the batch loops only divide non-negative values. */
+    private static final long OFFSET = 100L << 32;
+
+    /** Fewest rotations per chunk in the parallel batch mode, so small inputs stay on one thread. */
+    private static final int MIN_CHUNK = 1 << 14;
 
     public static void main(String[] args) {
         Day01 solution = new Day01();
@@ -14,7 +27,13 @@ public class Day01 {
         System.out.println("Part 2: " + solution.solvePart2(input));
     }
 
-    public long solvePart1(List<String> input) {
+    @Override
+    public List<String> parse(List<String> input) {
+        return input;
+    }
+
+    @Override
+    public long part1(List<String> input) {
         int position = 50;  // Starting position
         int zeroCount = 0;
 
@@ -22,15 +41,42 @@ public class Day01 {
             char direction = rotation.charAt(0);
             int distance = Integer.parseInt(rotation.substring(1));
 
-            if (direction == 'L') {
-                position = (position - distance) % 100;
-                if (position < 0) {
-                    position += 100;
-                }
-            } else { // direction == 'R'
-                position = (position + distance) % 100;
+            position = rotate(position, direction, distance);
+            if (position == 0) {
+                zeroCount++;
+            }
+        }
+
+        return zeroCount;
+    }
+
+    public long solvePart1(MappedInput input) {
+        int position = 50;  // Starting position
+        int zeroCount = 0;
+
+        for (int line = 0; line < input.lineCount(); line++) {
+            int start = input.lineStart(line);
+            char direction = (char) input.byteAt(start);
+            int distance = input.parseInt(start + 1, input.lineEnd(line));
+
+            position = rotate(position, direction, distance);
+            if (position == 0) {
+                zeroCount++;
             }
+        }
+
+        return zeroCount;
+    }
+
+    public long solvePart1(LineCursor input) {
+        int position = 50;  // Starting position
+        int zeroCount = 0;
+
+        while (input.next()) {
+            char direction = input.charAt(0);
+            int distance = input.parseInt(1, input.length());
 
+            position = rotate(position, direction, distance);
             if (position == 0) {
                 zeroCount++;
             }
@@ -39,7 +85,8 @@ public class Day01 {
         return zeroCount;
     }
 
-    public long solvePart2(List<String> input) {
+    @Override
+    public long part2(List<String> input) {
         int position = 50;  // Starting position
         int zeroCount = 0;
 
@@ -47,33 +94,217 @@ public class Day01 {
             char direction = rotation.charAt(0);
             int distance = Integer.parseInt(rotation.substring(1));
 
-            // Count complete wraps around the dial (each contributes 1 zero crossing)
-            zeroCount += distance / 100;
-
-            // Check if we cross 0 in the partial rotation
-            int newPosition;
-            if (direction == 'L') {
-                newPosition = position - (distance % 100);
-                if (newPosition <= 0 && position > 0) {
-                    // We crossed or landed on 0
-                    zeroCount++;
-                }
-                // Normalize position
-                newPosition = (position - distance) % 100;
-                if (newPosition < 0) {
-                    newPosition += 100;
-                }
-            } else { // direction == 'R'
-                newPosition = position + (distance % 100);
-                if (newPosition >= 100) {
-                    // We crossed 0 by wrapping around
-                    zeroCount++;
-                }
-                // Normalize position
-                newPosition = (position + distance) % 100;
+            zeroCount += countZeroPasses(position, direction, distance);
+            position = rotate(position, direction, distance);
+        }
+
+        return zeroCount;
+    }
+
+    public long solvePart2(MappedInput input) {
+        int position = 50;  // Starting position
+        int zeroCount = 0;
+
+        for (int line = 0; line < input.lineCount(); line++) {
+            int start = input.lineStart(line);
+            char direction = (char) input.byteAt(start);
+            int distance = input.parseInt(start + 1, input.lineEnd(line));
+
+            zeroCount += countZeroPasses(position, direction, distance);
+            position = rotate(position, direction, distance);
+        }
+
+        return zeroCount;
+    }
+
+    public long solvePart2(LineCursor input) {
+        int position = 50;  // Starting position
+        int zeroCount = 0;
+
+        while (input.next()) {
+            char direction = input.charAt(0);
+            int distance = input.parseInt(1, input.length());
+
+            zeroCount += countZeroPasses(position, direction, distance);
+            position = rotate(position, direction, distance);
+        }
+
+        return zeroCount;
+    }
+
+    /**
+     * Batch decoding: one signed delta per rotation, positive for R and negative for L, read
+     * straight from the input bytes. Blank lines are skipped.
+     */
+    public static int[] decode(MappedInput input) {
+        int[] deltas = new int[input.lineCount()];
+        int count = 0;
+
+        for (int line = 0; line < input.lineCount(); line++) {
+            if (input.isBlank(line)) {
+                continue;
             }
+            int start = input.lineStart(line);
+            int distance = input.parseInt(start + 1, input.lineEnd(line));
+            deltas[count++] = input.byteAt(start) == 'L' ? -distance : distance;
+        }
 
-            position = newPosition;
+        return count == deltas.length ? deltas : Arrays.copyOf(deltas, count);
+    }
+
+    public static int[] decode(byte[] input) {
+        return decode(MappedInput.wrap(input));
+    }
+
+    /** Part 1 over decoded deltas: how many rotations end on 0. */
+    public static long countZeroLandings(int[] deltas) {
+        return countZeroLandings(deltas, 0, deltas.length, 50);
+    }
+
+    static long countZeroLandings(int[] deltas, int from, int to, long position) {
+        long zeroCount = 0;
+
+        for (int i = from; i < to; i++) {
+            position = turn(position, deltas[i]);
+            zeroCount += (position - 1) >>> 63;
+        }
+
+        return zeroCount;
+    }
+
+    /**
+     * Part 2 over decoded deltas: every click that points at 0. A right turn from p to p + d
+     * passes the multiples of 100 in (p, p + d]; a left turn those in [p - d, p). Both are a
+     * difference of two floor divisions, and the direction only selects the bounds, so the
+     * loop has no branches.
+     */
+    public static long countZeroPasses(int[] deltas) {
+        return countZeroPasses(deltas, 0, deltas.length, 50);
+    }
+
+    static long countZeroPasses(int[] deltas, int from, int to, long position) {
+        long zeroCount = 0;
+
+        for (int i = from; i < to; i++) {
+            zeroCount += zeroPasses(position, deltas[i]);
+            position = turn(position, deltas[i]);
+        }
+
+        return zeroCount;
+    }
+
+    /** The position after turning by {@code delta}; OFFSET keeps the dividend positive so % is a floor mod. */
+    static long turn(long position, int delta) {
+        return (position + delta + OFFSET) % 100;
+    }
+
+    /** Clicks on 0 while turning by {@code delta} from {@code position}, without branching. */
+    static long zeroPasses(long position, int delta) {
+        long end = position + delta;
+        long left = delta >>> 31;  // 1 for L, 0 for R
+        long high = end - left * (end - position + 1);  // R: end,      L: position - 1
+        long low = position - left * (position - end + 1);  // R: position, L: end - 1
+        return (high + OFFSET) / 100 - (low + OFFSET) / 100;
+    }
+
+    /**
+     * Parallel batch mode on a fork/join pool with the given parallelism. Counting a chunk of
+     * rotations only needs the position it starts from, and that is the running sum mod 100
+     * of everything before it. So a first pass sums each chunk's deltas mod 100 in parallel,
+     * a serial prefix sum over the few chunks turns those into start positions, and a second
+     * pass counts every chunk from its start. All the work runs on the dedicated pool. Counts are exact at chunk boundaries because
+     * each rotation is counted by the chunk holding it, from the true position before it.
+     */
+    public static long countZeroLandings(int[] deltas, int parallelism) {
+        return countInChunks(deltas, parallelism, false);
+    }
+
+    public static long countZeroPasses(int[] deltas, int parallelism) {
+        return countInChunks(deltas, parallelism, true);
+    }
+
+    private static long countInChunks(int[] deltas, int parallelism, boolean passes) {
+        int chunks = Math.max(1, Math.min(4 * parallelism, deltas.length / MIN_CHUNK));
+        int[] bounds = new int[chunks + 1];
+        for (int c = 0; c <= chunks; c++) {
+            bounds[c] = (int) ((long) deltas.length * c / chunks);
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            // starts[c] is where chunk c begins: 50 plus the net turn of every earlier chunk
+            long[] starts = new long[chunks];
+            starts[0] = 50;
+            List<ForkJoinTask<?>> netTurns = new ArrayList<>();
+            for (int c = 1; c < chunks; c++) {
+                int chunk = c;
+                netTurns.add(pool.submit(() -> {
+                    starts[chunk] = netTurn(deltas, bounds[chunk - 1], bounds[chunk]);
+                }));
+            }
+            netTurns.forEach(ForkJoinTask::join);
+            // There are at most 4 * parallelism chunks, too few to be worth a parallel prefix
+            for (int c = 1; c < chunks; c++) {
+                starts[c] = (starts[c - 1] + starts[c]) % 100;
+            }
+
+            List<ForkJoinTask<Long>> counts = new ArrayList<>();
+            for (int c = 0; c < chunks; c++) {
+                int chunk = c;
+                counts.add(pool.submit(() -> passes
+                        ? countZeroPasses(deltas, bounds[chunk], bounds[chunk + 1], starts[chunk])
+                        : countZeroLandings(deltas, bounds[chunk], bounds[chunk + 1], starts[chunk])));
+            }
+            long zeroCount = 0;
+            for (ForkJoinTask<Long> count : counts) {
+                zeroCount += count.join();
+            }
+            return zeroCount;
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /** Net turn of deltas[from, to) as a position change in [0, 100). */
+    static long netTurn(int[] deltas, int from, int to) {
+        long sum = 0;
+        for (int i = from; i < to; i++) {
+            sum += deltas[i];
+        }
+        return Math.floorMod(sum, 100);
+    }
+
+    private static int rotate(int position, char direction, int distance) {
+        if (direction == 'L') {
+            position = (position - distance) % 100;
+            if (position < 0) {
+                position += 100;
+            }
+        } else { // direction == 'R'
+            position = (position + distance) % 100;
+        }
+        return position;
+    }
+
+    /**
+     * Count how many times the dial points at 0 while applying one rotation,
+     * including the position it lands on.
+     */
+    private static int countZeroPasses(int position, char direction, int distance) {
+        // Count complete wraps around the dial (each contributes 1 zero crossing)
+        int zeroCount = distance / 100;
+
+        // Check if we cross 0 in the partial rotation
+        if (direction == 'L') {
+            if (position - (distance % 100) <= 0 && position > 0) {
+                // We crossed or landed on 0
+                zeroCount++;
+            }
+        } else { // direction == 'R'
+            if (position + (distance % 100) >= 100) {
+                // We crossed 0 by wrapping around
+                zeroCount++;
+            }
         }
 
         return zeroCount;
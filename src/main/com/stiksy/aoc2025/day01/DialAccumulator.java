@@ -0,0 +1,166 @@
+package com.stiksy.aoc2025.day01;
+
+import com.stiksy.aoc2025.util.LineCursor;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Online version of Day 1 for rotations that arrive over time, e.g. tailed from a log.
+ *
+ * Rotations are fed one at a time (as a direction and distance, a signed delta or the bytes
+ * of one "L68" record) or in batches (decoded deltas or a {@link LineCursor}). The dial
+ * position and both answers are kept up to date, so the queries are O(1) whatever the length
+ * of the history.
+ *
+ * The state is four numbers. {@link #snapshot()} and {@link #restore} copy it in memory, and
+ * {@link #writeTo} / {@link #readFrom} persist it so a long stream can resume after a restart.
+ */
+public class DialAccumulator {
+
+    /** Leading tag of the serialized state, so a file of something else is rejected. */
+    private static final int FORMAT = 0x44_31_00_01;
+
+    private long position = 50;  // Starting position
+    private long rotations;
+    private long zeroLandings;
+    private long zeroPasses;
+
+    public void accept(char direction, int distance) {
+        accept(direction == 'L' ? -distance : distance);
+    }
+
+    /** One rotation as a signed delta: positive for R, negative for L. */
+    public void accept(int delta) {
+        zeroPasses += Day01.zeroPasses(position, delta);
+        position = Day01.turn(position, delta);
+        zeroLandings += (position - 1) >>> 63;
+        rotations++;
+    }
+
+    /**
+     * One rotation record such as {@code L68} in {@code bytes[from, to)}. An empty range is
+     * ignored, like a blank line; a direction with no distance is rejected.
+     */
+    public void accept(byte[] bytes, int from, int to) {
+        if (from == to) {
+            return;
+        }
+        if (to - from < 2) {
+            throw new IllegalArgumentException("Rotation without a distance at offset " + from);
+        }
+        int distance = 0;
+        for (int i = from + 1; i < to; i++) {
+            int digit = bytes[i] - '0';
+            if (digit < 0 || digit > 9) {
+                throw new NumberFormatException("Invalid digit at offset " + i);
+            }
+            distance = distance * 10 + digit;
+        }
+        accept((char) bytes[from], distance);
+    }
+
+    public void acceptAll(int[] deltas) {
+        acceptAll(deltas, 0, deltas.length);
+    }
+
+    /** A batch of signed deltas, counted with the Day 1 batch kernels. */
+    public void acceptAll(int[] deltas, int from, int to) {
+        zeroLandings += Day01.countZeroLandings(deltas, from, to, position);
+        zeroPasses += Day01.countZeroPasses(deltas, from, to, position);
+        position = (position + Day01.netTurn(deltas, from, to)) % 100;
+        rotations += to - from;
+    }
+
+    /** Every remaining record of the cursor; blank lines are skipped. */
+    public void acceptAll(LineCursor input) {
+        while (input.next()) {
+            if (!input.isBlank()) {
+                accept(input.charAt(0), input.parseInt(1, input.length()));
+            }
+        }
+    }
+
+    public int position() {
+        return (int) position;
+    }
+
+    public long rotations() {
+        return rotations;
+    }
+
+    /** The part 1 answer so far: rotations that ended on 0. */
+    public long zeroLandings() {
+        return zeroLandings;
+    }
+
+    /** The part 2 answer so far: every click that pointed at 0. */
+    public long zeroPasses() {
+        return zeroPasses;
+    }
+
+    public Snapshot snapshot() {
+        return new Snapshot(position, rotations, zeroLandings, zeroPasses);
+    }
+
+    public void restore(Snapshot snapshot) {
+        position = snapshot.position;
+        rotations = snapshot.rotations;
+        zeroLandings = snapshot.zeroLandings;
+        zeroPasses = snapshot.zeroPasses;
+    }
+
+    public void writeTo(DataOutput out) throws IOException {
+        out.writeInt(FORMAT);
+        out.writeByte((int) position);
+        out.writeLong(rotations);
+        out.writeLong(zeroLandings);
+        out.writeLong(zeroPasses);
+    }
+
+    public static DialAccumulator readFrom(DataInput in) throws IOException {
+        int format = in.readInt();
+        if (format != FORMAT) {
+            throw new IOException(String.format("Not a dial accumulator checkpoint (tag %08x)", format));
+        }
+        int position = in.readUnsignedByte();
+        if (position >= 100) {
+            throw new IOException("Corrupt dial accumulator checkpoint: position " + position);
+        }
+        DialAccumulator accumulator = new DialAccumulator();
+        accumulator.restore(new Snapshot(position, in.readLong(), in.readLong(), in.readLong()));
+        return accumulator;
+    }
+
+    /** An immutable copy of the accumulator state. */
+    public static final class Snapshot {
+        private final long position;
+        private final long rotations;
+        private final long zeroLandings;
+        private final long zeroPasses;
+
+        private Snapshot(long position, long rotations, long zeroLandings, long zeroPasses) {
+            this.position = position;
+            this.rotations = rotations;
+            this.zeroLandings = zeroLandings;
+            this.zeroPasses = zeroPasses;
+        }
+
+        public int position() {
+            return (int) position;
+        }
+
+        public long rotations() {
+            return rotations;
+        }
+
+        public long zeroLandings() {
+            return zeroLandings;
+        }
+
+        public long zeroPasses() {
+            return zeroPasses;
+        }
+    }
+}
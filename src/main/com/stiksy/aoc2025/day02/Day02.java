@@ -1,10 +1,53 @@
 package com.stiksy.aoc2025.day02;
 
 import com.stiksy.aoc2025.util.InputReader;
+import com.stiksy.aoc2025.util.LineCursor;
+import com.stiksy.aoc2025.util.MappedInput;
+import com.stiksy.aoc2025.util.Solver;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
 
-public class Day02 {
+public class Day02 implements Solver<List<long[]>> {
+
+    /** Digits in Long.MAX_VALUE. */
+    private static final int MAX_DIGITS = 19;
+
+    /** Largest range a parallel scan task tests by itself. */
+    static final long SCAN_CHUNK = 1 << 16;
+
+    /** POW10[i] = 10^i, up to the largest power of ten that fits in a long. */
+    private static final long[] POW10 = new long[MAX_DIGITS];
+
+    /** PRIME_FACTORS[L]: the distinct primes dividing the digit length L, in increasing order. */
+    private static final int[][] PRIME_FACTORS = new int[MAX_DIGITS + 1][];
+
+    /**
+     * For each digit length L, the multipliers of its maximal repeated patterns: one per prime
+     * q dividing L, for a pattern of L/q digits. HALF_MULTIPLIER[L] is the one for two halves.
+     */
+    private static final long[][] PATTERN_MULTIPLIERS = new long[MAX_DIGITS + 1][];
+    private static final long[] HALF_MULTIPLIER = new long[MAX_DIGITS + 1];
+
+    static {
+        POW10[0] = 1;
+        for (int i = 1; i < MAX_DIGITS; i++) {
+            POW10[i] = POW10[i - 1] * 10;
+        }
+        for (int length = 1; length <= MAX_DIGITS; length++) {
+            int[] primes = primeFactors(length);
+            PRIME_FACTORS[length] = primes;
+            PATTERN_MULTIPLIERS[length] = new long[primes.length];
+            for (int i = 0; i < primes.length; i++) {
+                PATTERN_MULTIPLIERS[length][i] = multiplier(length, length / primes[i]);
+            }
+            if (length % 2 == 0) {
+                HALF_MULTIPLIER[length] = multiplier(length, length / 2);
+            }
+        }
+    }
 
     public static void main(String[] args) {
         Day02 solution = new Day02();
@@ -14,60 +57,351 @@ public class Day02 {
         System.out.println("Part 2: " + solution.solvePart2(input));
     }
 
-    public long solvePart1(List<String> input) {
-        String rangesLine = String.join("", input).trim();
-        String[] ranges = rangesLine.split(",");
+    @Override
+    public long part1(List<long[]> ranges) {
+        return sumInvalidIds(ranges, false);
+    }
 
+    public long solvePart1(MappedInput input) {
+        return part1(parseRanges(input));
+    }
+
+    @Override
+    public long part2(List<long[]> ranges) {
+        return sumInvalidIds(ranges, true);
+    }
+
+    public long solvePart2(MappedInput input) {
+        return part2(parseRanges(input));
+    }
+
+    /**
+     * Streaming variant: ranges are summed as they are read and never collected.
+     * Works on a line cursor as well as on one split on commas, e.g.
+     * {@code LineCursor.ofResource("day02/input.txt", (byte) ',')}.
+     */
+    public long solvePart1(LineCursor input) {
+        return sumInvalidIds(input, false);
+    }
+
+    public long solvePart2(LineCursor input) {
+        return sumInvalidIds(input, true);
+    }
+
+    private long sumInvalidIds(List<long[]> ranges, boolean part2) {
         long totalInvalidIds = 0;
 
-        for (String range : ranges) {
-            range = range.trim();
-            if (range.isEmpty()) continue;
+        for (long[] range : ranges) {
+            totalInvalidIds += sumInvalidIds(range[0], range[1], part2);
+        }
 
-            String[] parts = range.split("-");
-            long start = Long.parseLong(parts[0]);
-            long end = Long.parseLong(parts[1]);
+        return totalInvalidIds;
+    }
+
+    /**
+     * Sum of the invalid IDs in [start, end], computed per digit length without visiting them.
+     *
+     * An L-digit ID made of a p-digit pattern repeated L/p times is pattern * m, with the
+     * multiplier m = 10^(L-p) + ... + 10^p + 1 (e.g. 123123 = 123 * 1001). Within one length the
+     * invalid IDs are therefore an arithmetic sequence of patterns times m, and their sum inside
+     * the range has a closed form.
+     *
+     * For part 2 an ID can repeat several pattern lengths at once (222222 repeats "2", "22" and
+     * "222"). Every repeating pattern length divides one of the maximal ones, L/q for the primes q
+     * dividing L, so inclusion-exclusion over those primes counts each ID once.
+     */
+    long sumInvalidIds(long start, long end, boolean part2) {
+        long totalInvalidIds = 0;
+
+        for (int length = 2; length <= MAX_DIGITS; length++) {
+            long low = Math.max(start, POW10[length - 1]);
+            // 10^19 does not fit in a long, so the last band is only capped by the range
+            long high = length == MAX_DIGITS ? end : Math.min(end, POW10[length] - 1);
+            if (low > high) {
+                continue;
+            }
+
+            if (!part2) {
+                if (length % 2 == 0) {
+                    totalInvalidIds += sumRepeated(low, high, length, length / 2);
+                }
+                continue;
+            }
 
-            for (long id = start; id <= end; id++) {
-                if (isInvalidId(id)) {
-                    totalInvalidIds += id;
+            int[] primes = PRIME_FACTORS[length];
+            for (int subset = 1; subset < 1 << primes.length; subset++) {
+                int patternLength = length;
+                for (int i = 0; i < primes.length; i++) {
+                    if ((subset & 1 << i) != 0) {
+                        patternLength /= primes[i];
+                    }
                 }
+                long sum = sumRepeated(low, high, length, patternLength);
+                totalInvalidIds += Integer.bitCount(subset) % 2 == 1 ? sum : -sum;
             }
         }
 
         return totalInvalidIds;
     }
 
-    public long solvePart2(List<String> input) {
-        String rangesLine = String.join("", input).trim();
-        String[] ranges = rangesLine.split(",");
+    /** Sum of the length-digit IDs in [low, high] that repeat a patternLength-digit pattern. */
+    private static long sumRepeated(long low, long high, int length, int patternLength) {
+        long multiplier = multiplier(length, patternLength);
+        long first = Math.max(POW10[patternLength - 1], low / multiplier + (low % multiplier == 0 ? 0 : 1));
+        long last = Math.min(POW10[patternLength] - 1, high / multiplier);
+        if (first > last) {
+            return 0;
+        }
+
+        // Halve whichever factor is even first, so only the final products can wrap, as a running sum would
+        long count = last - first + 1;
+        long ends = first + last;
+        if (count % 2 == 0) {
+            count /= 2;
+        } else {
+            ends /= 2;
+        }
+        return multiplier * (count * ends);
+    }
+
+    /** 10^(length-p) + ... + 10^p + 1, the number that repeats a p-digit pattern to length digits. */
+    private static long multiplier(int length, int patternLength) {
+        long multiplier = 0;
+        for (int i = 0; i < length / patternLength; i++) {
+            multiplier = multiplier * POW10[patternLength] + 1;
+        }
+        return multiplier;
+    }
+
+    private static int[] primeFactors(int n) {
+        List<Integer> primes = new ArrayList<>();
+        for (int p = 2; p <= n; p++) {
+            if (n % p == 0) {
+                primes.add(p);
+                while (n % p == 0) {
+                    n /= p;
+                }
+            }
+        }
+        return primes.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Reference implementation: test every ID in [start, end] one by one. Linear in the width of
+     * the range, so only practical for the puzzle input and for checking {@link #sumInvalidIds}.
+     */
+    static long scanInvalidIds(long start, long end, boolean part2) {
+        long totalInvalidIds = 0;
+
+        for (long id = start; id <= end; id++) {
+            if (part2 ? repeatsAtLeastTwice(id) : repeatsTwice(id)) {
+                totalInvalidIds += id;
+            }
+        }
+
+        return totalInvalidIds;
+    }
+
+    /**
+     * Parallel reference scan on a fork/join pool with the given parallelism. Ranges are
+     * split in halves until each task holds one range of at most {@link #SCAN_CHUNK} IDs, so
+     * a single wide range is spread over all workers by work stealing instead of straggling.
+     *
+     * Only the reference scan has a parallel mode. The solve path uses the closed form of
+     * {@link #sumInvalidIds(long, long, boolean)}, a few dozen operations per range whatever
+     * its width, which costs less than forking a single task.
+     */
+    static long scanInvalidIds(List<long[]> ranges, boolean part2, int parallelism) {
+        long[] starts = new long[ranges.size()];
+        long[] ends = new long[ranges.size()];
+        for (int i = 0; i < ranges.size(); i++) {
+            starts[i] = ranges.get(i)[0];
+            ends[i] = ranges.get(i)[1];
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            return pool.invoke(new ScanTask(starts, ends, 0, ranges.size(), part2));
+        } finally {
+            pool.shutdown();
+        }
+    }
 
+    /** Sums the invalid IDs of ranges [from, to), forking until the work fits in one chunk. */
+    static class ScanTask extends RecursiveTask<Long> {
+        private static final long serialVersionUID = 1L;
+
+        private final long[] starts;
+        private final long[] ends;
+        private final int from;
+        private final int to;
+        private final boolean part2;
+
+        ScanTask(long[] starts, long[] ends, int from, int to, boolean part2) {
+            this.starts = starts;
+            this.ends = ends;
+            this.from = from;
+            this.to = to;
+            this.part2 = part2;
+        }
+
+        @Override
+        protected Long compute() {
+            if (from == to) {
+                return 0L;
+            }
+
+            ScanTask left;
+            ScanTask right;
+            if (to - from > 1) {
+                int middle = (from + to) >>> 1;
+                left = new ScanTask(starts, ends, from, middle, part2);
+                right = new ScanTask(starts, ends, middle, to, part2);
+            } else {
+                long start = starts[from];
+                long end = ends[from];
+                if (end - start < SCAN_CHUNK) {
+                    return scanInvalidIds(start, end, part2);
+                }
+                long middle = start + (end - start) / 2;
+                left = new ScanTask(new long[]{start}, new long[]{middle}, 0, 1, part2);
+                right = new ScanTask(new long[]{middle + 1}, new long[]{end}, 0, 1, part2);
+            }
+
+            left.fork();
+            long rightSum = right.compute();
+            return left.join() + rightSum;
+        }
+    }
+
+    private long sumInvalidIds(LineCursor input, boolean part2) {
         long totalInvalidIds = 0;
+        long start = 0;
+        long value = 0;
+        boolean hasDigits = false;
+        // On a line cursor, wrapped lines are joined; on a comma cursor each record ends a range
+        boolean recordEndsRange = input.delimiter() != '\n';
 
+        while (input.next()) {
+            for (int i = 0; i < input.length(); i++) {
+                byte b = input.byteAt(i);
+                if (b >= '0' && b <= '9') {
+                    value = value * 10 + (b - '0');
+                    hasDigits = true;
+                } else if (b == '-') {
+                    start = value;
+                    value = 0;
+                } else if (b == ',') {
+                    if (hasDigits) {
+                        totalInvalidIds += sumInvalidIds(start, value, part2);
+                    }
+                    value = 0;
+                    hasDigits = false;
+                }
+            }
+            if (recordEndsRange && hasDigits) {
+                totalInvalidIds += sumInvalidIds(start, value, part2);
+                value = 0;
+                hasDigits = false;
+            }
+        }
+        if (hasDigits) {
+            totalInvalidIds += sumInvalidIds(start, value, part2);
+        }
+
+        return totalInvalidIds;
+    }
+
+    /**
+     * Parse "start-end" ranges separated by commas into {start, end} pairs. The input may
+     * be wrapped over several lines, which are joined back together before splitting.
+     */
+    @Override
+    public List<long[]> parse(List<String> input) {
+        String rangesLine = String.join("", input).trim();
+        String[] ranges = rangesLine.split(",");
+
+        List<long[]> parsed = new ArrayList<>();
         for (String range : ranges) {
             range = range.trim();
             if (range.isEmpty()) continue;
 
             String[] parts = range.split("-");
-            long start = Long.parseLong(parts[0]);
-            long end = Long.parseLong(parts[1]);
+            parsed.add(new long[]{Long.parseLong(parts[0]), Long.parseLong(parts[1])});
+        }
+        return parsed;
+    }
+
+    private List<long[]> parseRanges(MappedInput input) {
+        List<long[]> parsed = new ArrayList<>();
+        long start = 0;
+        long value = 0;
+        boolean hasDigits = false;
 
-            for (long id = start; id <= end; id++) {
-                if (isInvalidIdPart2(id)) {
-                    totalInvalidIds += id;
+        // Line breaks are skipped so wrapped input is read as one joined line
+        for (int line = 0; line < input.lineCount(); line++) {
+            for (int i = input.lineStart(line); i < input.lineEnd(line); i++) {
+                byte b = input.byteAt(i);
+                if (b >= '0' && b <= '9') {
+                    value = value * 10 + (b - '0');
+                    hasDigits = true;
+                } else if (b == '-') {
+                    start = value;
+                    value = 0;
+                } else if (b == ',') {
+                    if (hasDigits) {
+                        parsed.add(new long[]{start, value});
+                    }
+                    value = 0;
+                    hasDigits = false;
                 }
             }
         }
+        if (hasDigits) {
+            parsed.add(new long[]{start, value});
+        }
+        return parsed;
+    }
 
-        return totalInvalidIds;
+    static int digitCount(long id) {
+        int length = 1;
+        while (length < MAX_DIGITS && id >= POW10[length]) {
+            length++;
+        }
+        return length;
+    }
+
+    /**
+     * Arithmetic equivalent of {@link #isInvalidId} that allocates nothing. A 2h-digit ID
+     * is a pattern repeated twice exactly when it is a multiple of 10^h + 1: the quotient is
+     * then the h-digit pattern, since the ID has no leading zeroes.
+     */
+    public static boolean repeatsTwice(long id) {
+        long multiplier = HALF_MULTIPLIER[digitCount(id)];
+        return multiplier != 0 && id % multiplier == 0;
+    }
+
+    /**
+     * Arithmetic equivalent of {@link #isInvalidIdPart2}. An L-digit ID repeating a p-digit
+     * pattern also repeats every multiple of p dividing L, so only the maximal pattern lengths
+     * L/q (q prime) are tried, at most two divisions for any long.
+     */
+    public static boolean repeatsAtLeastTwice(long id) {
+        for (long multiplier : PATTERN_MULTIPLIERS[digitCount(id)]) {
+            if (id % multiplier == 0) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
      * Check if an ID is invalid (made of a repeated sequence).
      * An invalid ID is one where the digits form a pattern that repeats exactly twice.
      * Examples: 55 (5 twice), 6464 (64 twice), 123123 (123 twice)
+     * String-based reference for {@link #repeatsTwice}.
      */
-    boolean isInvalidId(long id) {
+    public boolean isInvalidId(long id) {
         String idStr = String.valueOf(id);
         int length = idStr.length();
 
@@ -87,8 +421,9 @@ public class Day02 {
      * Check if an ID is invalid for Part 2 (made of a repeated sequence at least twice).
      * An invalid ID is one where the digits form a pattern that repeats at least 2 times.
      * Examples: 55 (5 twice), 111 (1 three times), 12341234 (1234 twice), 123123123 (123 three times)
+     * String-based reference for {@link #repeatsAtLeastTwice}.
      */
-    boolean isInvalidIdPart2(long id) {
+    public boolean isInvalidIdPart2(long id) {
         String idStr = String.valueOf(id);
         int length = idStr.length();
 
@@ -0,0 +1,114 @@
+package com.stiksy.aoc2025.day03;
+
+import java.math.BigInteger;
+
+/**
+ * Range-maximum index over one battery bank, for answering many joltage queries (different
+ * k, sub-windows of the bank) without rescanning it.
+ *
+ * A sparse table holds, for every position i and power of two 2^j, the leftmost largest
+ * digit in [i, i + 2^j). Any window is covered by two overlapping blocks, so the leftmost
+ * maximum of a window is found in O(1). Building takes O(n log n) time and space, once per
+ * bank.
+ *
+ * The greedy selection then needs one lookup per digit: the i-th pick is the leftmost
+ * largest digit that still leaves enough digits after it. A query for k digits is O(k).
+ */
+public class BankIndex {
+
+    private final byte[] digits;
+    /** leftmostMax[j][i]: position of the leftmost largest digit in [i, i + 2^j). */
+    private final int[][] leftmostMax;
+
+    public BankIndex(CharSequence bank) {
+        int length = bank.length();
+        digits = new byte[length];
+        for (int i = 0; i < length; i++) {
+            digits[i] = (byte) (bank.charAt(i) - '0');
+        }
+
+        int levels = length == 0 ? 1 : 32 - Integer.numberOfLeadingZeros(length);
+        leftmostMax = new int[levels][];
+        leftmostMax[0] = new int[length];
+        for (int i = 0; i < length; i++) {
+            leftmostMax[0][i] = i;
+        }
+        for (int j = 1; j < levels; j++) {
+            int half = 1 << (j - 1);
+            int[] previous = leftmostMax[j - 1];
+            int[] level = new int[length - (1 << j) + 1];
+            for (int i = 0; i < level.length; i++) {
+                level[i] = leftmost(previous[i], previous[i + half]);
+            }
+            leftmostMax[j] = level;
+        }
+    }
+
+    public int length() {
+        return digits.length;
+    }
+
+    public int digitAt(int position) {
+        return digits[position];
+    }
+
+    /** Position of the leftmost largest digit in [from, to), which must not be empty. */
+    public int leftmostMax(int from, int to) {
+        if (from < 0 || to > digits.length || from >= to) {
+            throw new IndexOutOfBoundsException("Empty or out of range window [" + from + ", " + to + ")");
+        }
+        int level = 31 - Integer.numberOfLeadingZeros(to - from);
+        return leftmost(leftmostMax[level][from], leftmostMax[level][to - (1 << level)]);
+    }
+
+    /** Same as {@link Day03#maxSubsequenceNumber} on the whole bank. */
+    public long maxNumber(int k) {
+        return maxNumber(0, digits.length, k);
+    }
+
+    /** The largest k-digit number from the digits in [from, to), or 0 if the window is shorter than k. */
+    public long maxNumber(int from, int to, int k) {
+        if (k > 18) {
+            throw new IllegalArgumentException(k + " digits do not fit in a long, use maxBigNumber");
+        }
+        long value = 0;
+        for (int position : select(from, to, k)) {
+            value = value * 10 + digits[position];
+        }
+        return value;
+    }
+
+    public BigInteger maxBigNumber(int from, int to, int k) {
+        int[] positions = select(from, to, k);
+        if (positions.length == 0) {
+            return BigInteger.ZERO;
+        }
+        char[] number = new char[positions.length];
+        for (int i = 0; i < positions.length; i++) {
+            number[i] = (char) ('0' + digits[positions[i]]);
+        }
+        return new BigInteger(new String(number));
+    }
+
+    /**
+     * Positions of the digits picked for the largest k-digit number in [from, to), in order;
+     * empty if the window is shorter than k.
+     */
+    public int[] select(int from, int to, int k) {
+        if (k <= 0 || to - from < k) {
+            return new int[0];
+        }
+        int[] positions = new int[k];
+        int start = from;
+        for (int pick = 0; pick < k; pick++) {
+            // Leave k - pick - 1 digits after this one
+            positions[pick] = leftmostMax(start, to - (k - pick - 1));
+            start = positions[pick] + 1;
+        }
+        return positions;
+    }
+
+    private int leftmost(int a, int b) {
+        return digits[b] > digits[a] ? b : a;
+    }
+}
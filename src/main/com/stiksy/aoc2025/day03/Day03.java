@@ -1,10 +1,25 @@
 package com.stiksy.aoc2025.day03;
 
 import com.stiksy.aoc2025.util.InputReader;
+import com.stiksy.aoc2025.util.LineCursor;
+import com.stiksy.aoc2025.util.MappedInput;
+import com.stiksy.aoc2025.util.Solver;
 
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
-public class Day03 {
+public class Day03 implements Solver<List<String>> {
+
+    /** Digits that always fit in a long: 10^18 - 1 < Long.MAX_VALUE. */
+    private static final int MAX_LONG_DIGITS = 18;
+
+    /** Smallest byte segment per parallel task, so small inputs stay on one thread. */
+    private static final int MIN_SEGMENT = 1 << 16;
 
     public static void main(String[] args) {
         Day03 solution = new Day03();
@@ -14,79 +29,243 @@ public class Day03 {
         System.out.println("Part 2: " + solution.solvePart2(input));
     }
 
-    public long solvePart1(List<String> input) {
+    @Override
+    public List<String> parse(List<String> input) {
+        return input;
+    }
+
+    @Override
+    public long part1(List<String> input) {
         long totalJoltage = 0;
 
         for (String bank : input) {
-            long maxJoltage = findMaxJoltage(bank);
+            long maxJoltage = maxSubsequenceNumber(bank, 2);
             totalJoltage += maxJoltage;
         }
 
         return totalJoltage;
     }
 
-    private long findMaxJoltage(String bank) {
-        // We need to find the largest two-digit number we can form
-        // by selecting exactly two batteries (digits) in their original positions
+    public long solvePart1(MappedInput input) {
+        long totalJoltage = 0;
+        MappedInput.Slice bank = input.slice();
 
-        int maxJoltage = 0;
-        int length = bank.length();
+        for (int line = 0; line < input.lineCount(); line++) {
+            totalJoltage += maxSubsequenceNumber(bank.select(line), 2);
+        }
 
-        // Try all pairs of positions (i, j) where i < j
-        for (int i = 0; i < length - 1; i++) {
-            for (int j = i + 1; j < length; j++) {
-                int digit1 = Character.getNumericValue(bank.charAt(i));
-                int digit2 = Character.getNumericValue(bank.charAt(j));
-                int joltage = digit1 * 10 + digit2;
-                maxJoltage = Math.max(maxJoltage, joltage);
-            }
+        return totalJoltage;
+    }
+
+    public long solvePart1(LineCursor input) {
+        long totalJoltage = 0;
+
+        while (input.next()) {
+            totalJoltage += maxSubsequenceNumber(input, 2);
         }
 
-        return maxJoltage;
+        return totalJoltage;
     }
 
-    public long solvePart2(List<String> input) {
+    @Override
+    public long part2(List<String> input) {
         long totalJoltage = 0;
 
         for (String bank : input) {
-            long maxJoltage = findMaxJoltageWithTwelveBatteries(bank);
+            long maxJoltage = maxSubsequenceNumber(bank, 12);
             totalJoltage += maxJoltage;
         }
 
         return totalJoltage;
     }
 
-    private long findMaxJoltageWithTwelveBatteries(String bank) {
-        // We need to select exactly 12 digits from the bank to form the largest number
-        // Strategy: Greedy approach - at each position, pick the largest digit
-        // that still allows us to select enough remaining digits
+    public long solvePart2(MappedInput input) {
+        long totalJoltage = 0;
+        MappedInput.Slice bank = input.slice();
+
+        for (int line = 0; line < input.lineCount(); line++) {
+            totalJoltage += maxSubsequenceNumber(bank.select(line), 12);
+        }
+
+        return totalJoltage;
+    }
+
+    public long solvePart2(LineCursor input) {
+        long totalJoltage = 0;
+
+        while (input.next()) {
+            totalJoltage += maxSubsequenceNumber(input, 12);
+        }
+
+        return totalJoltage;
+    }
+
+    public long solvePart1(MappedInput input, int parallelism) {
+        return sumMaxJoltage(input.buffer(), 2, parallelism);
+    }
+
+    public long solvePart2(MappedInput input, int parallelism) {
+        return sumMaxJoltage(input.buffer(), 12, parallelism);
+    }
+
+    /**
+     * Parallel mode: the sum of every bank's largest k-digit number, read straight from the
+     * bytes. The buffer is cut into a few segments per worker, each moved forward to just
+     * after a line break so no bank is split, and every segment is summed by one task on a
+     * fork/join pool of the given parallelism; the per-task sums are added at the end.
+     */
+    public static long sumMaxJoltage(ByteBuffer bytes, int k, int parallelism) {
+        if (k > MAX_LONG_DIGITS) {
+            throw new IllegalArgumentException(k + " digits do not fit in a long");
+        }
+        int size = bytes.limit();
+        int segments = Math.max(1, Math.min(4 * parallelism, size / MIN_SEGMENT));
+        int[] bounds = new int[segments + 1];
+        for (int c = 1; c < segments; c++) {
+            int bound = Math.max(bounds[c - 1], (int) ((long) size * c / segments));
+            while (bound < size && bytes.get(bound - 1) != '\n') {
+                bound++;
+            }
+            bounds[c] = bound;
+        }
+        bounds[segments] = size;
+
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            List<ForkJoinTask<Long>> sums = new ArrayList<>();
+            for (int c = 0; c < segments; c++) {
+                int from = bounds[c];
+                int to = bounds[c + 1];
+                sums.add(pool.submit(() -> sumMaxJoltage(bytes, from, to, k)));
+            }
+            long totalJoltage = 0;
+            for (ForkJoinTask<Long> sum : sums) {
+                totalJoltage += sum.join();
+            }
+            return totalJoltage;
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /** Sum over the whole lines in bytes[from, to); blank lines and {@code \r} endings score 0. */
+    static long sumMaxJoltage(ByteBuffer bytes, int from, int to, int k) {
+        long totalJoltage = 0;
+        ByteSlice bank = new ByteSlice(bytes);
+        int start = from;
+        while (start < to) {
+            int end = start;
+            while (end < to && bytes.get(end) != '\n') {
+                end++;
+            }
+            int bankEnd = end > start && bytes.get(end - 1) == '\r' ? end - 1 : end;
+            totalJoltage += maxSubsequenceNumber(bank.select(start, bankEnd), k);
+            start = end + 1;
+        }
+        return totalJoltage;
+    }
+
+    /**
+     * The largest number made of k digits of the bank, kept in their original order, or 0 if
+     * the bank has fewer than k digits.
+     *
+     * Scanning left to right with the chosen digits on a stack, a digit larger than the top of
+     * the stack should replace it, as long as enough digits remain to still pick k: that is,
+     * while fewer than length - k digits have been dropped. Every digit is pushed and popped
+     * at most once, so this is O(n) for any k. The stack is the number itself: push is
+     * value * 10 + digit and pop is value / 10, so k is limited to 18 digits; see
+     * {@link #maxSubsequenceBigInteger} beyond that.
+     */
+    public static long maxSubsequenceNumber(CharSequence bank, int k) {
+        if (k > MAX_LONG_DIGITS) {
+            throw new IllegalArgumentException(k + " digits do not fit in a long, use maxSubsequenceBigInteger");
+        }
+        int length = bank.length();
+        if (k <= 0 || length < k) {
+            return 0;
+        }
 
+        long value = 0;
+        int size = 0;
+        int drops = length - k;
+        for (int i = 0; i < length; i++) {
+            int digit = bank.charAt(i) - '0';
+            while (size > 0 && drops > 0 && value % 10 < digit) {
+                value /= 10;
+                size--;
+                drops--;
+            }
+            if (size < k) {
+                value = value * 10 + digit;
+                size++;
+            } else {
+                drops--;
+            }
+        }
+        return value;
+    }
+
+    /** {@link #maxSubsequenceNumber} for any k, with the stack kept as digit characters. */
+    public static BigInteger maxSubsequenceBigInteger(CharSequence bank, int k) {
         int length = bank.length();
-        int needed = 12;
-        StringBuilder result = new StringBuilder();
-        int startIdx = 0;
-
-        for (int i = 0; i < needed; i++) {
-            // We need to pick 'needed - i' more digits
-            // We can look ahead up to position: length - (needed - i)
-            int maxAllowedPos = length - (needed - i);
-
-            // Find the maximum digit in the range [startIdx, maxAllowedPos]
-            char maxDigit = '0';
-            int maxPos = startIdx;
-
-            for (int j = startIdx; j <= maxAllowedPos; j++) {
-                char digit = bank.charAt(j);
-                if (digit > maxDigit) {
-                    maxDigit = digit;
-                    maxPos = j;
-                }
+        if (k <= 0 || length < k) {
+            return BigInteger.ZERO;
+        }
+
+        char[] stack = new char[k];
+        int size = 0;
+        int drops = length - k;
+        for (int i = 0; i < length; i++) {
+            char digit = bank.charAt(i);
+            while (size > 0 && drops > 0 && stack[size - 1] < digit) {
+                size--;
+                drops--;
+            }
+            if (size < k) {
+                stack[size++] = digit;
+            } else {
+                drops--;
             }
+        }
+        return new BigInteger(new String(stack));
+    }
 
-            result.append(maxDigit);
-            startIdx = maxPos + 1;
+    /** A reusable window over bytes[start, end), so the bank scans can read it without copying. */
+    private static final class ByteSlice implements CharSequence {
+        private final ByteBuffer bytes;
+        private int start;
+        private int end;
+
+        ByteSlice(ByteBuffer bytes) {
+            this.bytes = bytes;
         }
 
-        return Long.parseLong(result.toString());
+        ByteSlice select(int from, int to) {
+            start = from;
+            end = to;
+            return this;
+        }
+
+        @Override
+        public int length() {
+            return end - start;
+        }
+
+        @Override
+        public char charAt(int index) {
+            return (char) (bytes.get(start + index) & 0xFF);
+        }
+
+        @Override
+        public CharSequence subSequence(int from, int to) {
+            return toString().subSequence(from, to);
+        }
+
+        @Override
+        public String toString() {
+            byte[] copy = new byte[end - start];
+            bytes.get(start, copy);
+            return new String(copy, StandardCharsets.US_ASCII);
+        }
     }
 }
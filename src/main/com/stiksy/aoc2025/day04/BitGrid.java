@@ -0,0 +1,316 @@
+package com.stiksy.aoc2025.day04;
+
+import com.stiksy.aoc2025.util.LineCursor;
+import com.stiksy.aoc2025.util.MappedInput;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * The paper-roll grid as bits: one {@code long[]} per row, with column c at bit c % 64 of
+ * word c / 64. Bits past the last column are always 0.
+ *
+ * Neighbour counts are computed for 64 cells at a time. Shifting a row one bit left or right
+ * (carrying across words) lines up each cell with its west or east neighbour, which gives
+ * eight neighbour planes from the row above, the row itself and the row below. Adding the
+ * planes with bit-sliced (carry-save) adders yields, per cell, whether it has at least 4
+ * neighbours, so a whole word of "accessible" cells costs a few dozen logical operations.
+ */
+public class BitGrid {
+
+    private final int rows;
+    private final int cols;
+    private final int words;
+    private final long[][] cells;
+
+    public BitGrid(int rows, int cols) {
+        this.rows = rows;
+        this.cols = cols;
+        this.words = wordsFor(cols);
+        this.cells = new long[rows][words];
+    }
+
+    public static BitGrid of(List<String> input) {
+        BitGrid grid = new BitGrid(input.size(), input.isEmpty() ? 0 : input.get(0).length());
+        for (int row = 0; row < grid.rows; row++) {
+            String line = input.get(row);
+            for (int col = 0; col < grid.cols; col++) {
+                if (line.charAt(col) == '@') {
+                    grid.set(row, col);
+                }
+            }
+        }
+        return grid;
+    }
+
+    public static BitGrid of(MappedInput input) {
+        BitGrid grid = new BitGrid(input.lineCount(), input.lineCount() == 0 ? 0 : input.lineLength(0));
+        for (int row = 0; row < grid.rows; row++) {
+            encodeRow(input.buffer(), input.lineStart(row), grid.cols, grid.cells[row]);
+        }
+        return grid;
+    }
+
+    /** Words needed for a row of {@code cols} cells. */
+    static int wordsFor(int cols) {
+        return (cols + 63) >>> 6;
+    }
+
+    /** Pack the '@' bytes of bytes[from, from + cols) into {@code row}, which is overwritten. */
+    static void encodeRow(ByteBuffer bytes, int from, int cols, long[] row) {
+        Arrays.fill(row, 0);
+        for (int col = 0; col < cols; col++) {
+            if (bytes.get(from + col) == '@') {
+                row[col >>> 6] |= 1L << col;
+            }
+        }
+    }
+
+    /** {@link #encodeRow(ByteBuffer, int, int, long[])} for the cursor's current line. */
+    static void encodeRow(LineCursor line, int cols, long[] row) {
+        Arrays.fill(row, 0);
+        int length = Math.min(cols, line.length());
+        for (int col = 0; col < length; col++) {
+            if (line.byteAt(col) == '@') {
+                row[col >>> 6] |= 1L << col;
+            }
+        }
+    }
+
+    public int rows() {
+        return rows;
+    }
+
+    public int cols() {
+        return cols;
+    }
+
+    public boolean get(int row, int col) {
+        return (cells[row][col >>> 6] & 1L << col) != 0;
+    }
+
+    public void set(int row, int col) {
+        cells[row][col >>> 6] |= 1L << col;
+    }
+
+    public void clear(int row, int col) {
+        cells[row][col >>> 6] &= ~(1L << col);
+    }
+
+    /** The words of one row; changes write through to the grid. */
+    long[] row(int row) {
+        return cells[row];
+    }
+
+    public long count() {
+        long count = 0;
+        for (long[] row : cells) {
+            for (long word : row) {
+                count += Long.bitCount(word);
+            }
+        }
+        return count;
+    }
+
+    /** Part 1: rolls with fewer than 4 rolls among their 8 neighbours. */
+    public long countAccessible() {
+        long[] empty = new long[words];
+        long[] mask = new long[words];
+        long accessible = 0;
+        for (int row = 0; row < rows; row++) {
+            accessible += countAccessible(row == 0 ? empty : cells[row - 1], cells[row],
+                    row == rows - 1 ? empty : cells[row + 1], mask);
+        }
+        return accessible;
+    }
+
+    /** The number of accessible rolls in {@code row}; {@code mask} is scratch space. */
+    static long countAccessible(long[] above, long[] row, long[] below, long[] mask) {
+        accessibleMask(above, row, below, mask);
+        long accessible = 0;
+        for (long word : mask) {
+            accessible += Long.bitCount(word);
+        }
+        return accessible;
+    }
+
+    /**
+     * Part 2, round by round like the puzzle describes: every accessible roll is found, then
+     * they are all removed together, until a round removes nothing. Returns the number removed
+     * and leaves the grid without them.
+     *
+     * The rows are split into one band per thread (at most {@code parallelism}). Each round, a
+     * band copies the boundary rows of the bands above and below (its halo), waits on a barrier
+     * until every band has done so, then finds and clears its own accessible rolls using the
+     * halos for its first and last row. A second barrier ends the round and decides whether
+     * another is needed. A band only ever writes its own rows, and only after its neighbours
+     * have copied them, so every round sees exactly the grid the previous one left.
+     */
+    public long removeAccessibleRolls(int parallelism) {
+        Rounds rounds = new Rounds(Math.max(1, Math.min(parallelism, rows)));
+
+        ExecutorService pool = Executors.newFixedThreadPool(rounds.bands);
+        try {
+            List<Future<Void>> futures = new ArrayList<>();
+            for (int band = 0; band < rounds.bands; band++) {
+                futures.add(pool.submit(new Band(rounds, band)));
+            }
+            for (Future<Void> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while removing rolls", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Removing rolls failed", e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+
+        return rounds.totalRemoved;
+    }
+
+    /** State shared by the bands: the two barriers of a round and what the round removed. */
+    private static class Rounds {
+        final int bands;
+        final long[] removedInRound;
+        final CyclicBarrier halosCopied;
+        final CyclicBarrier roundDone;
+        // Written by the barrier action, read by the bands after the barrier
+        long totalRemoved;
+        boolean finished;
+
+        Rounds(int bands) {
+            this.bands = bands;
+            this.removedInRound = new long[bands];
+            this.halosCopied = new CyclicBarrier(bands);
+            this.roundDone = new CyclicBarrier(bands, () -> {
+                long removed = 0;
+                for (long count : removedInRound) {
+                    removed += count;
+                }
+                totalRemoved += removed;
+                finished = removed == 0;
+            });
+        }
+    }
+
+    /** The rows {@code [from, to)} of one band, with its halo copies and mask buffers. */
+    private class Band implements Callable<Void> {
+        private final Rounds rounds;
+        private final int index;
+        private final int from;
+        private final int to;
+        private final long[] above = new long[words];
+        private final long[] below = new long[words];
+        private final long[][] masks;
+
+        Band(Rounds rounds, int index) {
+            this.rounds = rounds;
+            this.index = index;
+            this.from = (int) ((long) rows * index / rounds.bands);
+            this.to = (int) ((long) rows * (index + 1) / rounds.bands);
+            this.masks = new long[to - from][words];
+        }
+
+        @Override
+        public Void call() throws InterruptedException, BrokenBarrierException {
+            try {
+                while (!rounds.finished) {
+                    round();
+                }
+                return null;
+            } catch (RuntimeException | Error e) {
+                // Release the other bands from the barriers instead of leaving them waiting
+                rounds.halosCopied.reset();
+                rounds.roundDone.reset();
+                throw e;
+            }
+        }
+
+        private void round() throws InterruptedException, BrokenBarrierException {
+            copyRowOrClear(from - 1, above);
+            copyRowOrClear(to, below);
+            rounds.halosCopied.await();
+
+            for (int row = from; row < to; row++) {
+                accessibleMask(row == from ? above : cells[row - 1], cells[row],
+                        row == to - 1 ? below : cells[row + 1], masks[row - from]);
+            }
+            long removed = 0;
+            for (int row = from; row < to; row++) {
+                long[] mask = masks[row - from];
+                for (int w = 0; w < words; w++) {
+                    removed += Long.bitCount(mask[w]);
+                    cells[row][w] &= ~mask[w];
+                }
+            }
+            rounds.removedInRound[index] = removed;
+
+            rounds.roundDone.await();
+        }
+    }
+
+    private void copyRowOrClear(int row, long[] target) {
+        if (row >= 0 && row < rows) {
+            System.arraycopy(cells[row], 0, target, 0, words);
+        } else {
+            Arrays.fill(target, 0);
+        }
+    }
+
+    /**
+     * The accessible cells of {@code row} given its neighbours {@code above} and {@code below}
+     * (all zeros outside the grid), written to {@code out}. All four arrays have the same length.
+     */
+    static void accessibleMask(long[] above, long[] row, long[] below, long[] out) {
+        int words = row.length;
+        for (int w = 0; w < words; w++) {
+            long nw = west(above, w);
+            long n = above[w];
+            long ne = east(above, w);
+            long we = west(row, w);
+            long e = east(row, w);
+            long sw = west(below, w);
+            long so = below[w];
+            long se = east(below, w);
+
+            // Carry-save adders: the eight planes become one bit of weight 1 and four of weight 2
+            long sumAbove = nw ^ n ^ ne;
+            long carryAbove = nw & n | ne & (nw ^ n);
+            long sumMiddle = we ^ e ^ sw;
+            long carryMiddle = we & e | sw & (we ^ e);
+            long sumBelow = so ^ se;
+            long carryBelow = so & se;
+            long carryOnes = sumAbove & sumMiddle | sumBelow & (sumAbove ^ sumMiddle);
+
+            // The weight-1 bit adds at most 1, so a count of 4 or more (bit 2 or bit 3 of the
+            // count set) means at least two of the four weight-2 bits are set
+            long atLeastFour = carryAbove & carryMiddle | carryBelow & carryOnes
+                    | (carryAbove ^ carryMiddle) & (carryBelow ^ carryOnes);
+
+            out[w] = row[w] & ~atLeastFour;
+        }
+    }
+
+    /** Each cell's west neighbour: column c - 1 moved to bit c, carrying the previous word's top bit. */
+    private static long west(long[] row, int w) {
+        long carry = w == 0 ? 0 : row[w - 1] >>> 63;
+        return row[w] << 1 | carry;
+    }
+
+    /** Each cell's east neighbour: column c + 1 moved to bit c, carrying the next word's low bit. */
+    private static long east(long[] row, int w) {
+        long carry = w == row.length - 1 ? 0 : row[w + 1] << 63;
+        return row[w] >>> 1 | carry;
+    }
+}
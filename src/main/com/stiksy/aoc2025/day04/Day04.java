@@ -1,10 +1,28 @@
 package com.stiksy.aoc2025.day04;
 
 import com.stiksy.aoc2025.util.InputReader;
+import com.stiksy.aoc2025.util.LineCursor;
+import com.stiksy.aoc2025.util.MappedInput;
+import com.stiksy.aoc2025.util.Solver;
 
+import java.util.Arrays;
 import java.util.List;
 
-public class Day04 {
+public class Day04 implements Solver<List<String>> {
+
+    /** Cell states in the padded grid used by {@link #peel}; a roll counts 1 towards its neighbours. */
+    private static final byte ROLL = 1;
+    private static final byte QUEUED = 2;
+
+    /** Longest array the JVM reliably allocates. */
+    private static final int MAX_ARRAY_LENGTH = Integer.MAX_VALUE - 8;
+
+    /** The 8 neighbours of a cell as {dRow, dCol}. */
+    private static final int[][] DIRECTIONS = {
+        {-1, -1}, {-1, 0}, {-1, 1},  // Top row
+        {0, -1},           {0, 1},    // Left and right
+        {1, -1},  {1, 0},  {1, 1}     // Bottom row
+    };
 
     public static void main(String[] args) {
         Day04 solution = new Day04();
@@ -14,63 +32,196 @@ public class Day04 {
         System.out.println("Part 2: " + solution.solvePart2(input));
     }
 
-    public long solvePart1(List<String> input) {
+    @Override
+    public List<String> parse(List<String> input) {
+        return input;
+    }
+
+    /** Part 1 on the bit-packed grid, 64 cells per step; see {@link BitGrid}. */
+    @Override
+    public long part1(List<String> input) {
+        return BitGrid.of(input).countAccessible();
+    }
+
+    public long solvePart1(MappedInput input) {
+        return BitGrid.of(input).countAccessible();
+    }
+
+    /**
+     * Streaming part 1: a row's accessible rolls only depend on the rows above and below it,
+     * so rows are counted one behind the cursor with a window of three bit rows. Memory is
+     * O(cols) whatever the number of rows. Blank lines are skipped.
+     */
+    public long solvePart1(LineCursor input) {
+        long[] above = null;
+        long[] current = null;
+        long[] below = null;
+        long[] mask = null;
+        int cols = -1;
+        long accessibleCount = 0;
+
+        while (input.next()) {
+            if (input.isBlank()) {
+                continue;
+            }
+            if (cols < 0) {
+                cols = input.length();
+                int words = BitGrid.wordsFor(cols);
+                above = new long[words];
+                current = new long[words];
+                below = new long[words];
+                mask = new long[words];
+                BitGrid.encodeRow(input, cols, current);
+                continue;
+            }
+
+            BitGrid.encodeRow(input, cols, below);
+            accessibleCount += BitGrid.countAccessible(above, current, below, mask);
+
+            // Slide the window down; the old top row is reused for the next row read
+            long[] free = above;
+            above = current;
+            current = below;
+            below = free;
+        }
+
+        if (cols < 0) {
+            return 0;
+        }
+        Arrays.fill(below, 0);
+        return accessibleCount + BitGrid.countAccessible(above, current, below, mask);
+    }
+
+    @Override
+    public long part2(List<String> input) {
         int rows = input.size();
-        int cols = input.get(0).length();
-        int accessibleCount = 0;
+        int cols = rows == 0 ? 0 : input.get(0).length();
+        int cells = paddedCells(rows, cols);
+        if (cells < 0) {
+            return solvePart2(input, Runtime.getRuntime().availableProcessors());
+        }
+        byte[] state = new byte[cells];
 
-        // Check each position in the grid
         for (int row = 0; row < rows; row++) {
+            String line = input.get(row);
             for (int col = 0; col < cols; col++) {
-                // Only check positions that have a roll (@)
-                if (input.get(row).charAt(col) == '@') {
-                    int adjacentRolls = countAdjacentRolls(input, row, col, rows, cols);
-                    // Accessible if fewer than 4 adjacent rolls
-                    if (adjacentRolls < 4) {
-                        accessibleCount++;
-                    }
+                if (line.charAt(col) == '@') {
+                    state[(row + 1) * (cols + 2) + col + 1] = ROLL;
                 }
             }
         }
 
-        return accessibleCount;
+        return peel(state, rows, cols);
     }
 
-    private int countAdjacentRolls(List<String> grid, int row, int col, int rows, int cols) {
-        int count = 0;
+    public long solvePart2(MappedInput input) {
+        // Decode the grid straight from the mapped bytes
+        int rows = input.lineCount();
+        int cols = rows == 0 ? 0 : input.lineLength(0);
+        int cells = paddedCells(rows, cols);
+        if (cells < 0) {
+            return solvePart2(input, Runtime.getRuntime().availableProcessors());
+        }
+        byte[] state = new byte[cells];
 
-        // Check all 8 adjacent positions
-        int[][] directions = {
-            {-1, -1}, {-1, 0}, {-1, 1},  // Top row
-            {0, -1},           {0, 1},    // Left and right
-            {1, -1},  {1, 0},  {1, 1}     // Bottom row
-        };
+        for (int row = 0; row < rows; row++) {
+            int rowStart = input.lineStart(row);
+            for (int col = 0; col < cols; col++) {
+                if (input.byteAt(rowStart + col) == '@') {
+                    state[(row + 1) * (cols + 2) + col + 1] = ROLL;
+                }
+            }
+        }
 
-        for (int[] dir : directions) {
-            int newRow = row + dir[0];
-            int newCol = col + dir[1];
+        return peel(state, rows, cols);
+    }
 
-            // Check bounds and if position has a roll
-            if (newRow >= 0 && newRow < rows && newCol >= 0 && newCol < cols) {
-                if (grid.get(newRow).charAt(newCol) == '@') {
-                    count++;
+    /**
+     * Part 2 on the bit grid, round by round in row bands on up to {@code parallelism}
+     * threads; see {@link BitGrid#removeAccessibleRolls}.
+     */
+    public long solvePart2(List<String> input, int parallelism) {
+        return BitGrid.of(input).removeAccessibleRolls(parallelism);
+    }
+
+    public long solvePart2(MappedInput input, int parallelism) {
+        return BitGrid.of(input).removeAccessibleRolls(parallelism);
+    }
+
+    /**
+     * Cells of the grid with its one-cell border, or -1 if they do not fit in one array (beyond
+     * about 46,000 x 46,000). Larger grids go to the bit grid, which stores one array per row.
+     */
+    static int paddedCells(int rows, int cols) {
+        long cells = (long) (rows + 2) * (cols + 2);
+        return cells > MAX_ARRAY_LENGTH ? -1 : (int) cells;
+    }
+
+    /**
+     * Part 2 as a worklist. Removing a roll only lowers its neighbours' counts, so the rolls
+     * that end up removed do not depend on the order of removal, and the total equals the
+     * round-by-round simulation. Each roll is queued at most once, when its count first drops
+     * below 4, and each removal touches 8 neighbours: O(rows * cols) overall, however long the
+     * cascade.
+     *
+     * {@code state} is the grid with a one-cell empty border, row-major, so every cell has
+     * all 8 neighbours at fixed offsets and no bounds checks are needed.
+     */
+    static long peel(byte[] state, int rows, int cols) {
+        int width = cols + 2;
+        int[] neighbours = {-width - 1, -width, -width + 1, -1, 1, width - 1, width, width + 1};
+        byte[] counts = new byte[state.length];
+        int[] queue = new int[rows * cols];
+        int tail = 0;
+
+        for (int row = 1; row <= rows; row++) {
+            for (int cell = row * width + 1; cell <= row * width + cols; cell++) {
+                if (state[cell] == ROLL) {
+                    for (int offset : neighbours) {
+                        counts[cell] += state[cell + offset];
+                    }
                 }
             }
         }
+        // Queued only once all counts are known, since a queued roll no longer reads as 1
+        for (int cell = 0; cell < state.length; cell++) {
+            if (state[cell] == ROLL && counts[cell] < 4) {
+                state[cell] = QUEUED;
+                queue[tail++] = cell;
+            }
+        }
 
-        return count;
+        int head = 0;
+        while (head < tail) {
+            int cell = queue[head++];
+            for (int offset : neighbours) {
+                int neighbour = cell + offset;
+                if (state[neighbour] == ROLL && --counts[neighbour] < 4) {
+                    state[neighbour] = QUEUED;
+                    queue[tail++] = neighbour;
+                }
+            }
+        }
+
+        // Every queued roll is removed
+        return tail;
     }
 
-    public long solvePart2(List<String> input) {
-        // Create a mutable copy of the grid
+    /** Reference for {@link #peel}: the round-synchronous simulation on a char grid. */
+    long removeByRounds(List<String> input) {
         int rows = input.size();
-        int cols = input.get(0).length();
-        char[][] grid = new char[rows][cols];
+        char[][] grid = new char[rows][];
 
         for (int row = 0; row < rows; row++) {
             grid[row] = input.get(row).toCharArray();
         }
 
+        return removeAccessibleRolls(grid);
+    }
+
+    private long removeAccessibleRolls(char[][] grid) {
+        int rows = grid.length;
+        int cols = rows == 0 ? 0 : grid[0].length;
         int totalRemoved = 0;
         boolean removed = true;
 
@@ -111,13 +262,7 @@ public class Day04 {
         int count = 0;
 
         // Check all 8 adjacent positions
-        int[][] directions = {
-            {-1, -1}, {-1, 0}, {-1, 1},  // Top row
-            {0, -1},           {0, 1},    // Left and right
-            {1, -1},  {1, 0},  {1, 1}     // Bottom row
-        };
-
-        for (int[] dir : directions) {
+        for (int[] dir : DIRECTIONS) {
             int newRow = row + dir[0];
             int newCol = col + dir[1];
 
@@ -1,11 +1,19 @@
 package com.stiksy.aoc2025.day05;
 
 import com.stiksy.aoc2025.util.InputReader;
+import com.stiksy.aoc2025.util.LineCursor;
+import com.stiksy.aoc2025.util.MappedInput;
+import com.stiksy.aoc2025.util.Solver;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.List;
 
-public class Day05 {
+public class Day05 implements Solver<Day05.Inventory> {
+
+    /** Batches of at least this many IDs are sorted with {@link Arrays#parallelSort}. */
+    static final int PARALLEL_SORT_MIN = 1 << 16;
 
     public static void main(String[] args) {
         Day05 solution = new Day05();
@@ -15,7 +23,8 @@ public class Day05 {
         System.out.println("Part 2: " + solution.solvePart2(input));
     }
 
-    public long solvePart1(List<String> input) {
+    @Override
+    public Inventory parse(List<String> input) {
         // Parse the input into ranges and ingredient IDs
         List<Range> ranges = new ArrayList<>();
         List<Long> ingredientIds = new ArrayList<>();
@@ -39,10 +48,15 @@ public class Day05 {
             }
         }
 
+        return new Inventory(IntervalIndex.of(ranges), ingredientIds);
+    }
+
+    @Override
+    public long part1(Inventory inventory) {
         // Count how many ingredient IDs are fresh (fall within any range)
         long freshCount = 0;
-        for (long id : ingredientIds) {
-            if (isFresh(id, ranges)) {
+        for (long id : inventory.ingredientIds) {
+            if (inventory.index.contains(id)) {
                 freshCount++;
             }
         }
@@ -50,73 +64,159 @@ public class Day05 {
         return freshCount;
     }
 
-    public long solvePart2(List<String> input) {
-        // Parse only the ranges (ignore ingredient IDs after blank line)
+    public long solvePart1(MappedInput input) {
         List<Range> ranges = new ArrayList<>();
-
-        for (String line : input) {
-            if (line.trim().isEmpty()) {
-                break; // Stop at blank line
+        int line = parseRanges(input, ranges);
+
+        // The remaining lines are ingredient IDs, all in memory, so they are joined as a batch
+        long[] ids = new long[Math.max(0, input.lineCount() - line - 1)];
+        int count = 0;
+        for (line++; line < input.lineCount(); line++) {
+            if (!input.isBlank(line)) {
+                ids[count++] = input.parseLong(input.lineStart(line), input.lineEnd(line));
             }
+        }
+
+        // The trimmed copy is private to this call, so it can be sorted in place
+        return sortAndCount(IntervalIndex.of(ranges), Arrays.copyOf(ids, count));
+    }
 
-            // Parse range like "3-5"
-            String[] parts = line.split("-");
-            long start = Long.parseLong(parts[0]);
-            long end = Long.parseLong(parts[1]);
-            ranges.add(new Range(start, end));
+    /**
+     * Batch part 1: a sort-merge join of the IDs against the merged ranges. The IDs are sorted,
+     * then one sweep advances through the IDs and the ranges together, so every ID and range
+     * is visited once instead of a binary search per ID jumping around the range arrays.
+     * {@code ids} itself is not modified.
+     *
+     * If {@code fresh} is not null, bit i is set when {@code ids[i]} is fresh, i and IDs in the
+     * order they were passed in. The IDs are then sorted together with their positions (see
+     * {@link #sortedOrder}); without a bitmap a plain sorted copy is enough, sorted in parallel
+     * for large batches.
+     */
+    public static long countFresh(IntervalIndex index, long[] ids, BitSet fresh) {
+        if (fresh == null) {
+            return sortAndCount(index, ids.clone());
         }
+        long[] sorted = new long[ids.length];
+        int[] positions = sortedOrder(ids, sorted);
+        return index.countContainedSorted(sorted, positions, fresh);
+    }
 
-        // Merge overlapping ranges and count total IDs
-        return countFreshIds(ranges);
+    /** Sorts {@code ids} in place and counts the fresh ones in one sweep. */
+    private static long sortAndCount(IntervalIndex index, long[] ids) {
+        if (ids.length >= PARALLEL_SORT_MIN) {
+            Arrays.parallelSort(ids);
+        } else {
+            Arrays.sort(ids);
+        }
+        return index.countContainedSorted(ids, null);
     }
 
-    private long countFreshIds(List<Range> ranges) {
-        if (ranges.isEmpty()) {
-            return 0;
+    /**
+     * Writes {@code ids} in ascending order to {@code sorted}, and returns for each position of
+     * {@code sorted} the index in {@code ids} that it came from. This is an LSD radix sort: four
+     * stable counting passes over 16-bit digits of primitive arrays, with the sign bit flipped
+     * so that negative IDs sort first.
+     */
+    static int[] sortedOrder(long[] ids, long[] sorted) {
+        int n = ids.length;
+        long[] keys = new long[n];
+        int[] positions = new int[n];
+        for (int i = 0; i < n; i++) {
+            keys[i] = ids[i] ^ Long.MIN_VALUE;
+            positions[i] = i;
         }
 
-        // Sort ranges by start position
-        List<Range> sortedRanges = new ArrayList<>(ranges);
-        sortedRanges.sort((a, b) -> Long.compare(a.start, b.start));
+        long[] nextKeys = new long[n];
+        int[] nextPositions = new int[n];
+        int[] starts = new int[(1 << 16) + 1];
+        for (int shift = 0; shift < 64; shift += 16) {
+            Arrays.fill(starts, 0);
+            for (long key : keys) {
+                starts[(int) (key >>> shift & 0xFFFF) + 1]++;
+            }
+            for (int digit = 0; digit < 1 << 16; digit++) {
+                starts[digit + 1] += starts[digit];
+            }
+            for (int i = 0; i < n; i++) {
+                int at = starts[(int) (keys[i] >>> shift & 0xFFFF)]++;
+                nextKeys[at] = keys[i];
+                nextPositions[at] = positions[i];
+            }
+
+            long[] swapKeys = keys;
+            keys = nextKeys;
+            nextKeys = swapKeys;
+            int[] swapPositions = positions;
+            positions = nextPositions;
+            nextPositions = swapPositions;
+        }
 
-        // Merge overlapping ranges
-        List<Range> mergedRanges = new ArrayList<>();
-        Range current = sortedRanges.get(0);
+        for (int i = 0; i < n; i++) {
+            sorted[i] = keys[i] ^ Long.MIN_VALUE;
+        }
+        return positions;
+    }
 
-        for (int i = 1; i < sortedRanges.size(); i++) {
-            Range next = sortedRanges.get(i);
+    /**
+     * Streaming variant: only the ranges are kept, ingredient IDs are checked as they are read.
+     */
+    public long solvePart1(LineCursor input) {
+        List<Range> ranges = new ArrayList<>();
+        while (input.next() && !input.isBlank()) {
+            int dash = input.indexOf((byte) '-', 0);
+            ranges.add(new Range(input.parseLong(0, dash), input.parseLong(dash + 1, input.length())));
+        }
 
-            // Check if ranges overlap or are adjacent
-            if (next.start <= current.end + 1) {
-                // Merge ranges
-                current = new Range(current.start, Math.max(current.end, next.end));
-            } else {
-                // No overlap, save current and start new range
-                mergedRanges.add(current);
-                current = next;
+        IntervalIndex index = IntervalIndex.of(ranges);
+        long freshCount = 0;
+        while (input.next()) {
+            if (!input.isBlank() && index.contains(input.parseLong(0, input.length()))) {
+                freshCount++;
             }
         }
-        mergedRanges.add(current);
 
-        // Count total IDs in merged ranges
-        long totalCount = 0;
-        for (Range range : mergedRanges) {
-            totalCount += (range.end - range.start + 1);
-        }
+        return freshCount;
+    }
 
-        return totalCount;
+    @Override
+    public long part2(Inventory inventory) {
+        // Merge overlapping ranges and count total IDs (ingredient IDs are not needed)
+        return inventory.index.coverage();
     }
 
-    private boolean isFresh(long id, List<Range> ranges) {
-        for (Range range : ranges) {
-            if (id >= range.start && id <= range.end) {
-                return true;
-            }
+    public long solvePart2(MappedInput input) {
+        List<Range> ranges = new ArrayList<>();
+        parseRanges(input, ranges);
+        return IntervalIndex.of(ranges).coverage();
+    }
+
+    /**
+     * Parse the range section of the input, stopping at the blank separator line.
+     * Returns the index of that separator line (or the line count if there is none).
+     */
+    private int parseRanges(MappedInput input, List<Range> ranges) {
+        int line = 0;
+        for (; line < input.lineCount() && !input.isBlank(line); line++) {
+            int start = input.lineStart(line);
+            int end = input.lineEnd(line);
+            int dash = input.indexOf((byte) '-', start, end);
+            ranges.add(new Range(input.parseLong(start, dash), input.parseLong(dash + 1, end)));
+        }
+        return line;
+    }
+
+    /** The merged fresh ranges, indexed once at parse time for both parts, and the IDs to check. */
+    static class Inventory {
+        final IntervalIndex index;
+        final List<Long> ingredientIds;
+
+        Inventory(IntervalIndex index, List<Long> ingredientIds) {
+            this.index = index;
+            this.ingredientIds = ingredientIds;
         }
-        return false;
     }
 
-    private static class Range {
+    static class Range {
         final long start;
         final long end;
 
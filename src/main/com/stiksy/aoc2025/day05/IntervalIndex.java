@@ -0,0 +1,163 @@
+package com.stiksy.aoc2025.day05;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * The fresh ID ranges after sorting and merging, for fast membership checks.
+ *
+ * Merged ranges are disjoint and sorted, so they are kept as two parallel arrays:
+ * {@code starts[i]} and {@code ends[i]} bound the i-th range (inclusive), and both arrays are
+ * strictly increasing. An ID is fresh exactly when the last range starting at or before it
+ * also ends at or after it, which a binary search over {@code starts} finds in O(log n).
+ * Building the index is the O(n log n) sort and merge that part 2 needs anyway.
+ */
+public class IntervalIndex {
+
+    private final long[] starts;
+    private final long[] ends;
+
+    private IntervalIndex(long[] starts, long[] ends) {
+        this.starts = starts;
+        this.ends = ends;
+    }
+
+    /**
+     * Index the inclusive ranges {@code [starts[i], ends[i]]}, which may overlap and come in any
+     * order. The arrays are not modified.
+     *
+     * The union of the ranges depends only on the sorted starts and the sorted ends, not on
+     * which start goes with which end, so the two are sorted separately as primitive arrays.
+     * The k smallest ends all fall before the (k+1)-th smallest start exactly when no range
+     * spans the gap between them, so a merged range ends at {@code ends[k]} whenever
+     * {@code starts[k + 1]} is more than one past it.
+     */
+    public static IntervalIndex of(long[] starts, long[] ends) {
+        if (starts.length != ends.length) {
+            throw new IllegalArgumentException(starts.length + " starts but " + ends.length + " ends");
+        }
+        for (int i = 0; i < starts.length; i++) {
+            if (starts[i] > ends[i]) {
+                throw new IllegalArgumentException("Range " + starts[i] + "-" + ends[i] + " ends before it starts");
+            }
+        }
+        long[] sortedStarts = starts.clone();
+        long[] sortedEnds = ends.clone();
+        Arrays.sort(sortedStarts);
+        Arrays.sort(sortedEnds);
+
+        // Merged in place: the first count entries are the merged ranges so far
+        int count = 0;
+        for (int i = 0; i < sortedStarts.length; i++) {
+            // Overlapping or adjacent ranges extend the current one
+            if (count > 0 && sortedStarts[i] <= sortedEnds[count - 1] + 1) {
+                sortedEnds[count - 1] = sortedEnds[i];
+            } else {
+                sortedStarts[count] = sortedStarts[i];
+                sortedEnds[count] = sortedEnds[i];
+                count++;
+            }
+        }
+
+        return new IntervalIndex(Arrays.copyOf(sortedStarts, count), Arrays.copyOf(sortedEnds, count));
+    }
+
+    static IntervalIndex of(List<Day05.Range> ranges) {
+        long[] starts = new long[ranges.size()];
+        long[] ends = new long[ranges.size()];
+        for (int i = 0; i < starts.length; i++) {
+            starts[i] = ranges.get(i).start;
+            ends[i] = ranges.get(i).end;
+        }
+        return of(starts, ends);
+    }
+
+    /** The number of merged ranges. */
+    public int size() {
+        return starts.length;
+    }
+
+    public long start(int range) {
+        return starts[range];
+    }
+
+    public long end(int range) {
+        return ends[range];
+    }
+
+    /** Part 2: how many IDs the ranges cover. */
+    public long coverage() {
+        long totalCount = 0;
+        for (int i = 0; i < starts.length; i++) {
+            totalCount += ends[i] - starts[i] + 1;
+        }
+        return totalCount;
+    }
+
+    public boolean contains(long id) {
+        return rangeOf(id) >= 0;
+    }
+
+    /** The index of the merged range holding {@code id}, or -1 if it is in none. */
+    public int rangeOf(long id) {
+        int position = Arrays.binarySearch(starts, id);
+        if (position >= 0) {
+            return position;
+        }
+        // The last range starting before the ID is the only one that can hold it
+        int candidate = -position - 2;
+        return candidate >= 0 && id <= ends[candidate] ? candidate : -1;
+    }
+
+    /** Part 1 for a batch: how many of {@code ids} are in some range. */
+    public long countContained(long[] ids) {
+        return countContained(ids, 0, ids.length);
+    }
+
+    public long countContained(long[] ids, int from, int to) {
+        long freshCount = 0;
+        for (int i = from; i < to; i++) {
+            if (contains(ids[i])) {
+                freshCount++;
+            }
+        }
+        return freshCount;
+    }
+
+    /**
+     * {@link #countContained(long[])} for IDs sorted in ascending order, in one linear sweep:
+     * the current range only moves forward, past every range that ends before the current ID.
+     * If {@code fresh} is not null, bit i is set for every contained {@code sortedIds[i]}.
+     */
+    public long countContainedSorted(long[] sortedIds, BitSet fresh) {
+        return countContainedSorted(sortedIds, null, fresh);
+    }
+
+    /**
+     * Like {@link #countContainedSorted(long[], BitSet)}, but a contained {@code sortedIds[i]}
+     * sets bit {@code positions[i]}, e.g. its index before sorting. A null {@code positions}
+     * means i itself.
+     */
+    public long countContainedSorted(long[] sortedIds, int[] positions, BitSet fresh) {
+        long freshCount = 0;
+        int range = 0;
+        for (int i = 0; i < sortedIds.length; i++) {
+            long id = sortedIds[i];
+            while (range < starts.length && ends[range] < id) {
+                range++;
+            }
+            if (range == starts.length) {
+                // Every remaining ID is past the last range
+                break;
+            }
+            if (id >= starts[range]) {
+                freshCount++;
+                if (fresh != null) {
+                    fresh.set(positions == null ? i : positions[i]);
+                }
+            }
+        }
+        return freshCount;
+    }
+}
@@ -1,11 +1,13 @@
 package com.stiksy.aoc2025.day06;
 
 import com.stiksy.aoc2025.util.InputReader;
+import com.stiksy.aoc2025.util.MappedInput;
+import com.stiksy.aoc2025.util.Solver;
 
 import java.util.ArrayList;
 import java.util.List;
 
-public class Day06 {
+public class Day06 implements Solver<List<String>> {
 
     public static void main(String[] args) {
         Day06 solution = new Day06();
@@ -15,7 +17,13 @@ public class Day06 {
         System.out.println("Part 2: " + solution.solvePart2(input));
     }
 
-    public long solvePart1(List<String> input) {
+    @Override
+    public List<String> parse(List<String> input) {
+        return input;
+    }
+
+    @Override
+    public long part1(List<String> input) {
         List<Problem> problems = parseProblems(input);
         long grandTotal = 0;
 
@@ -26,7 +34,13 @@ public class Day06 {
         return grandTotal;
     }
 
-    public long solvePart2(List<String> input) {
+    public long solvePart1(MappedInput input) {
+        // Problems are laid out column-wise across every row, so the rows are decoded up front
+        return solvePart1(input.lines());
+    }
+
+    @Override
+    public long part2(List<String> input) {
         List<Problem> problems = parseProblemsPart2(input);
         long grandTotal = 0;
 
@@ -39,6 +53,11 @@ public class Day06 {
         return grandTotal;
     }
 
+    public long solvePart2(MappedInput input) {
+        // Problems are laid out column-wise across every row, so the rows are decoded up front
+        return solvePart2(input.lines());
+    }
+
     private List<Problem> parseProblemsPart2(List<String> input) {
         List<Problem> problems = new ArrayList<>();
 
@@ -1,6 +1,8 @@
 package com.stiksy.aoc2025.day07;
 
 import com.stiksy.aoc2025.util.InputReader;
+import com.stiksy.aoc2025.util.MappedInput;
+import com.stiksy.aoc2025.util.Solver;
 
 import java.util.HashMap;
 import java.util.HashSet;
@@ -10,7 +12,7 @@ import java.util.Map;
 import java.util.Queue;
 import java.util.Set;
 
-public class Day07 {
+public class Day07 implements Solver<List<String>> {
 
     public static void main(String[] args) {
         Day07 solution = new Day07();
@@ -20,7 +22,13 @@ public class Day07 {
         System.out.println("Part 2: " + solution.solvePart2(input));
     }
 
-    public long solvePart1(List<String> input) {
+    @Override
+    public List<String> parse(List<String> input) {
+        return input;
+    }
+
+    @Override
+    public long part1(List<String> input) {
         // Find starting position (S)
         int startRow = -1;
         int startCol = -1;
@@ -77,7 +85,13 @@ public class Day07 {
         return splitCount;
     }
 
-    public long solvePart2(List<String> input) {
+    public long solvePart1(MappedInput input) {
+        // The beam simulation walks the grid by row and column, so the rows are decoded up front
+        return solvePart1(input.lines());
+    }
+
+    @Override
+    public long part2(List<String> input) {
         // Find starting position (S)
         int startRow = -1;
         int startCol = -1;
@@ -95,6 +109,11 @@ public class Day07 {
         return countPathsMemo(input, startRow + 1, startCol, memo);
     }
 
+    public long solvePart2(MappedInput input) {
+        // The beam simulation walks the grid by row and column, so the rows are decoded up front
+        return solvePart2(input.lines());
+    }
+
     private long countPathsMemo(List<String> input, int row, int col, Map<String, Long> memo) {
         // Check bounds - if we exit the manifold, this is one timeline
         if (row < 0 || row >= input.size() || col < 0 || col >= input.get(0).length()) {
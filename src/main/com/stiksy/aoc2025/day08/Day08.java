@@ -1,14 +1,22 @@
 package com.stiksy.aoc2025.day08;
 
 import com.stiksy.aoc2025.util.InputReader;
+import com.stiksy.aoc2025.util.MappedInput;
+import com.stiksy.aoc2025.util.Metrics;
+import com.stiksy.aoc2025.util.Solver;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.PriorityQueue;
 
-public class Day08 {
+public class Day08 implements Solver<Day08.Playground> {
+
+    private static final Metrics.Counter EDGE_POLLS = Metrics.counter("day08.edgePolls");
+
+    /** Longest array the JVM reliably allocates. */
+    private static final int MAX_ARRAY_LENGTH = Integer.MAX_VALUE - 8;
 
     public static void main(String[] args) {
         Day08 solution = new Day08();
@@ -104,42 +112,80 @@ public class Day08 {
         }
     }
 
-    public long solvePart1(List<String> input) {
-        return solvePart1(input, 1000);
-    }
+    /** The junction boxes and every pair between them, sorted by distance once for both parts. */
+    static class Playground {
+        final List<Point> points;
+        final Edge[] edges;
 
-    public long solvePart1(List<String> input, int connectionsToMake) {
-        // Parse junction box positions
-        List<Point> points = new ArrayList<>();
-        for (String line : input) {
-            String[] parts = line.split(",");
-            points.add(new Point(
-                Integer.parseInt(parts[0]),
-                Integer.parseInt(parts[1]),
-                Integer.parseInt(parts[2])
-            ));
+        Playground(List<Point> points, Edge[] edges) {
+            this.points = points;
+            this.edges = edges;
         }
+    }
+
+    @Override
+    public Playground parse(List<String> input) {
+        return buildPlayground(parsePoints(input));
+    }
 
+    private Playground buildPlayground(List<Point> points) {
         int n = points.size();
 
         // Create all edges and sort by distance (Kruskal's algorithm)
-        PriorityQueue<Edge> edges = new PriorityQueue<>();
-        for (int i = 0; i < n; i++) {
-            for (int j = i + 1; j < n; j++) {
-                double dist = points.get(i).distanceTo(points.get(j));
-                edges.add(new Edge(i, j, dist));
+        Edge[] edges = new Edge[pairCount(n)];
+        Metrics.Span build = Metrics.phase(Metrics.Phase.BUILD);
+        try {
+            int count = 0;
+            for (int i = 0; i < n; i++) {
+                for (int j = i + 1; j < n; j++) {
+                    double dist = points.get(i).distanceTo(points.get(j));
+                    edges[count++] = new Edge(i, j, dist);
+                }
             }
+            Arrays.sort(edges);
+        } finally {
+            build.close();
+        }
+
+        return new Playground(points, edges);
+    }
+
+    /** n(n-1)/2, the number of pairs of n boxes, computed in long so it cannot wrap. */
+    static int pairCount(int n) {
+        long pairs = (long) n * (n - 1) / 2;
+        if (pairs > MAX_ARRAY_LENGTH) {
+            throw new IllegalArgumentException(n + " junction boxes make " + pairs
+                    + " pairs, more than one array can hold (at most 65,536 boxes)");
         }
+        return (int) pairs;
+    }
+
+    @Override
+    public long part1(Playground playground) {
+        return part1(playground, 1000);
+    }
+
+    public long solvePart1(List<String> input, int connectionsToMake) {
+        return part1(parse(input), connectionsToMake);
+    }
+
+    public long solvePart1(MappedInput input) {
+        return part1(buildPlayground(parsePoints(input)));
+    }
+
+    public long part1(Playground playground, int connectionsToMake) {
+        Edge[] edges = playground.edges;
 
         // Use Union-Find to connect the closest pairs
-        UnionFind uf = new UnionFind(n);
+        UnionFind uf = new UnionFind(playground.points.size());
         int connectionsAttempted = 0;
 
-        while (!edges.isEmpty() && connectionsAttempted < connectionsToMake) {
-            Edge edge = edges.poll();
+        while (connectionsAttempted < edges.length && connectionsAttempted < connectionsToMake) {
+            Edge edge = edges[connectionsAttempted];
             uf.union(edge.from, edge.to); // Try to connect (may or may not succeed)
             connectionsAttempted++;
         }
+        EDGE_POLLS.add(connectionsAttempted);
 
         // Get the sizes of all circuits (connected components)
         Map<Integer, Integer> componentSizes = uf.getComponentSizes();
@@ -155,35 +201,22 @@ public class Day08 {
         return result;
     }
 
-    public long solvePart2(List<String> input) {
-        // Parse junction box positions
-        List<Point> points = new ArrayList<>();
-        for (String line : input) {
-            String[] parts = line.split(",");
-            points.add(new Point(
-                Integer.parseInt(parts[0]),
-                Integer.parseInt(parts[1]),
-                Integer.parseInt(parts[2])
-            ));
-        }
+    public long solvePart2(MappedInput input) {
+        return part2(buildPlayground(parsePoints(input)));
+    }
 
+    @Override
+    public long part2(Playground playground) {
+        List<Point> points = playground.points;
         int n = points.size();
 
-        // Create all edges and sort by distance
-        PriorityQueue<Edge> edges = new PriorityQueue<>();
-        for (int i = 0; i < n; i++) {
-            for (int j = i + 1; j < n; j++) {
-                double dist = points.get(i).distanceTo(points.get(j));
-                edges.add(new Edge(i, j, dist));
-            }
-        }
-
         // Use Union-Find to connect until all are in one circuit
         UnionFind uf = new UnionFind(n);
         int lastFrom = -1, lastTo = -1;
+        int polled = 0;
 
-        while (!edges.isEmpty()) {
-            Edge edge = edges.poll();
+        for (Edge edge : playground.edges) {
+            polled++;
             if (uf.union(edge.from, edge.to)) {
                 lastFrom = edge.from;
                 lastTo = edge.to;
@@ -195,7 +228,39 @@ public class Day08 {
             }
         }
 
+        EDGE_POLLS.add(polled);
+
         // Multiply the X coordinates of the last two boxes connected
         return (long) points.get(lastFrom).x * points.get(lastTo).x;
     }
+
+    private List<Point> parsePoints(List<String> input) {
+        // Parse junction box positions
+        List<Point> points = new ArrayList<>();
+        for (String line : input) {
+            String[] parts = line.split(",");
+            points.add(new Point(
+                Integer.parseInt(parts[0]),
+                Integer.parseInt(parts[1]),
+                Integer.parseInt(parts[2])
+            ));
+        }
+        return points;
+    }
+
+    private List<Point> parsePoints(MappedInput input) {
+        List<Point> points = new ArrayList<>();
+        for (int line = 0; line < input.lineCount(); line++) {
+            int start = input.lineStart(line);
+            int end = input.lineEnd(line);
+            int comma1 = input.indexOf((byte) ',', start, end);
+            int comma2 = input.indexOf((byte) ',', comma1 + 1, end);
+            points.add(new Point(
+                input.parseInt(start, comma1),
+                input.parseInt(comma1 + 1, comma2),
+                input.parseInt(comma2 + 1, end)
+            ));
+        }
+        return points;
+    }
 }
@@ -1,6 +1,8 @@
 package com.stiksy.aoc2025.day09;
 
 import com.stiksy.aoc2025.util.InputReader;
+import com.stiksy.aoc2025.util.MappedInput;
+import com.stiksy.aoc2025.util.Solver;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -9,7 +11,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
-public class Day09 {
+public class Day09 implements Solver<List<Day09.Point>> {
 
     static class Point {
         int x, y;
@@ -41,8 +43,12 @@ public class Day09 {
         System.out.println("Part 2: " + solution.solvePart2(input));
     }
 
-    public long solvePart1(List<String> input) {
-        List<Point> redTiles = parseInput(input);
+    public long solvePart1(MappedInput input) {
+        return part1(parseInput(input));
+    }
+
+    @Override
+    public long part1(List<Point> redTiles) {
         long maxArea = 0;
 
         // Try all pairs of red tiles as opposite corners
@@ -79,8 +85,12 @@ public class Day09 {
         }
     }
 
-    public long solvePart2(List<String> input) {
-        List<Point> redTiles = parseInput(input);
+    public long solvePart2(MappedInput input) {
+        return part2(parseInput(input));
+    }
+
+    @Override
+    public long part2(List<Point> redTiles) {
 
         // Generate all possible rectangles and sort by area (largest first)
         List<Rectangle> rectangles = new ArrayList<>();
@@ -211,7 +221,8 @@ public class Day09 {
         return true;
     }
 
-    private List<Point> parseInput(List<String> input) {
+    @Override
+    public List<Point> parse(List<String> input) {
         List<Point> points = new ArrayList<>();
         for (String line : input) {
             String[] parts = line.split(",");
@@ -221,4 +232,15 @@ public class Day09 {
         }
         return points;
     }
+
+    private List<Point> parseInput(MappedInput input) {
+        List<Point> points = new ArrayList<>();
+        for (int line = 0; line < input.lineCount(); line++) {
+            int start = input.lineStart(line);
+            int end = input.lineEnd(line);
+            int comma = input.indexOf((byte) ',', start, end);
+            points.add(new Point(input.parseInt(start, comma), input.parseInt(comma + 1, end)));
+        }
+        return points;
+    }
 }
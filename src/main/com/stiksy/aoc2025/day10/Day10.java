@@ -1,10 +1,16 @@
 package com.stiksy.aoc2025.day10;
 
 import com.stiksy.aoc2025.util.InputReader;
+import com.stiksy.aoc2025.util.LineCursor;
+import com.stiksy.aoc2025.util.MappedInput;
+import com.stiksy.aoc2025.util.Metrics;
+import com.stiksy.aoc2025.util.Solver;
 
 import java.util.*;
 
-public class Day10 {
+public class Day10 implements Solver<List<Day10.Machine>> {
+
+    private static final Metrics.Counter BRANCH_AND_BOUND_LEAVES = Metrics.counter("day10.branchAndBoundLeaves");
 
     static class Machine {
         boolean[] target;
@@ -184,98 +190,130 @@ public class Day10 {
         return minPresses;
     }
 
-    public long solvePart1(List<String> input) {
-        int totalPresses = 0;
+    @Override
+    public List<Machine> parse(List<String> input) {
+        List<Machine> machines = new ArrayList<>(input.size());
         for (String line : input) {
-            Machine machine = parseMachine(line);
+            machines.add(parseMachine(line));
+        }
+        return machines;
+    }
+
+    @Override
+    public long part1(List<Machine> machines) {
+        int totalPresses = 0;
+        for (Machine machine : machines) {
             int presses = solveMinButtonPresses(machine);
             totalPresses += presses;
         }
         return totalPresses;
     }
 
+    public long solvePart1(LineCursor input) {
+        int totalPresses = 0;
+        while (input.next()) {
+            totalPresses += solveMinButtonPresses(parseMachine(input.toString()));
+        }
+        return totalPresses;
+    }
+
+    public long solvePart1(MappedInput input) {
+        // Machine descriptions are parsed by substring, so each line is decoded
+        return solvePart1(input.lines());
+    }
+
     public static int solveMinButtonPressesJoltage(Machine machine) {
         int numCounters = machine.joltageRequirements.length;
         int numButtons = machine.buttons.size();
 
-        // Create augmented matrix for Gaussian elimination over integers
-        // Each row represents a counter, each column represents a button
-        // The last column is the target joltage value
-        double[][] matrix = new double[numCounters][numButtons + 1];
-
-        // Fill the matrix
-        for (int j = 0; j < numButtons; j++) {
-            for (int counter : machine.buttons.get(j)) {
-                if (counter < numCounters) {
-                    matrix[counter][j] = 1.0;
+        // The elimination results are used after the span, so they are declared outside it
+        double[][] matrix;
+        int[] pivotCol;
+        int currentRow;
+        List<Integer> freeVars;
+        Metrics.Span build = Metrics.phase(Metrics.Phase.BUILD);
+        try {
+            // Create augmented matrix for Gaussian elimination over integers
+            // Each row represents a counter, each column represents a button
+            // The last column is the target joltage value
+            matrix = new double[numCounters][numButtons + 1];
+
+            // Fill the matrix
+            for (int j = 0; j < numButtons; j++) {
+                for (int counter : machine.buttons.get(j)) {
+                    if (counter < numCounters) {
+                        matrix[counter][j] = 1.0;
+                    }
                 }
             }
-        }
 
-        // Set target column
-        for (int i = 0; i < numCounters; i++) {
-            matrix[i][numButtons] = machine.joltageRequirements[i];
-        }
-
-        // Gaussian elimination
-        int[] pivotCol = new int[numCounters];
-        Arrays.fill(pivotCol, -1);
-        int currentRow = 0;
+            // Set target column
+            for (int i = 0; i < numCounters; i++) {
+                matrix[i][numButtons] = machine.joltageRequirements[i];
+            }
 
-        for (int col = 0; col < numButtons && currentRow < numCounters; col++) {
-            // Find pivot (largest absolute value for numerical stability)
-            int pivotRow = -1;
-            double maxVal = 1e-10;
-            for (int row = currentRow; row < numCounters; row++) {
-                if (Math.abs(matrix[row][col]) > maxVal) {
-                    maxVal = Math.abs(matrix[row][col]);
-                    pivotRow = row;
+            // Gaussian elimination
+            pivotCol = new int[numCounters];
+            Arrays.fill(pivotCol, -1);
+            currentRow = 0;
+
+            for (int col = 0; col < numButtons && currentRow < numCounters; col++) {
+                // Find pivot (largest absolute value for numerical stability)
+                int pivotRow = -1;
+                double maxVal = 1e-10;
+                for (int row = currentRow; row < numCounters; row++) {
+                    if (Math.abs(matrix[row][col]) > maxVal) {
+                        maxVal = Math.abs(matrix[row][col]);
+                        pivotRow = row;
+                    }
                 }
-            }
 
-            if (pivotRow == -1) continue;
+                if (pivotRow == -1) continue;
 
-            // Swap rows
-            if (pivotRow != currentRow) {
-                double[] temp = matrix[currentRow];
-                matrix[currentRow] = matrix[pivotRow];
-                matrix[pivotRow] = temp;
-            }
+                // Swap rows
+                if (pivotRow != currentRow) {
+                    double[] temp = matrix[currentRow];
+                    matrix[currentRow] = matrix[pivotRow];
+                    matrix[pivotRow] = temp;
+                }
 
-            pivotCol[currentRow] = col;
+                pivotCol[currentRow] = col;
 
-            // Scale pivot row
-            double pivot = matrix[currentRow][col];
-            for (int c = 0; c <= numButtons; c++) {
-                matrix[currentRow][c] /= pivot;
-            }
+                // Scale pivot row
+                double pivot = matrix[currentRow][col];
+                for (int c = 0; c <= numButtons; c++) {
+                    matrix[currentRow][c] /= pivot;
+                }
 
-            // Eliminate
-            for (int row = 0; row < numCounters; row++) {
-                if (row != currentRow && Math.abs(matrix[row][col]) > 1e-10) {
-                    double factor = matrix[row][col];
-                    for (int c = 0; c <= numButtons; c++) {
-                        matrix[row][c] -= factor * matrix[currentRow][c];
+                // Eliminate
+                for (int row = 0; row < numCounters; row++) {
+                    if (row != currentRow && Math.abs(matrix[row][col]) > 1e-10) {
+                        double factor = matrix[row][col];
+                        for (int c = 0; c <= numButtons; c++) {
+                            matrix[row][c] -= factor * matrix[currentRow][c];
+                        }
                     }
                 }
-            }
 
-            currentRow++;
-        }
+                currentRow++;
+            }
 
-        // Find free variables
-        Set<Integer> pivotCols = new HashSet<>();
-        for (int i = 0; i < currentRow; i++) {
-            if (pivotCol[i] != -1) {
-                pivotCols.add(pivotCol[i]);
+            // Find free variables
+            Set<Integer> pivotCols = new HashSet<>();
+            for (int i = 0; i < currentRow; i++) {
+                if (pivotCol[i] != -1) {
+                    pivotCols.add(pivotCol[i]);
+                }
             }
-        }
 
-        List<Integer> freeVars = new ArrayList<>();
-        for (int col = 0; col < numButtons; col++) {
-            if (!pivotCols.contains(col)) {
-                freeVars.add(col);
+            freeVars = new ArrayList<>();
+            for (int col = 0; col < numButtons; col++) {
+                if (!pivotCols.contains(col)) {
+                    freeVars.add(col);
+                }
             }
+        } finally {
+            build.close();
         }
 
         // Find minimum by bounded search on free variables
@@ -389,6 +427,8 @@ public class Day10 {
                                        int numButtons, int numCounters, List<Integer> freeVars, int numFreeVars,
                                        int index, int[] freeVarValues, int freeVarSum, int[] bestSolution, int upperBound) {
         if (index == numFreeVars) {
+            BRANCH_AND_BOUND_LEAVES.increment();
+
             // Back substitute to get complete solution
             int[] solution = new int[numButtons];
 
@@ -453,12 +493,12 @@ public class Day10 {
         }
     }
 
-    public long solvePart2(List<String> input) {
+    @Override
+    public long part2(List<Machine> machines) {
         long totalPresses = 0;
         int machineNum = 0;
-        for (String line : input) {
+        for (Machine machine : machines) {
             machineNum++;
-            Machine machine = parseMachine(line);
             int presses = solveMinButtonPressesJoltage(machine);
             if (presses == -1) {
                 System.err.println("Warning: No solution found for machine " + machineNum);
@@ -468,6 +508,25 @@ public class Day10 {
         return totalPresses;
     }
 
+    public long solvePart2(LineCursor input) {
+        long totalPresses = 0;
+        int machineNum = 0;
+        while (input.next()) {
+            machineNum++;
+            int presses = solveMinButtonPressesJoltage(parseMachine(input.toString()));
+            if (presses == -1) {
+                System.err.println("Warning: No solution found for machine " + machineNum);
+            }
+            totalPresses += presses;
+        }
+        return totalPresses;
+    }
+
+    public long solvePart2(MappedInput input) {
+        // Machine descriptions are parsed by substring, so each line is decoded
+        return solvePart2(input.lines());
+    }
+
     public static void main(String[] args) {
         Day10 solution = new Day10();
         List<String> input = InputReader.readLines("day10/input.txt");
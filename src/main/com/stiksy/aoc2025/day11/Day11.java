@@ -1,10 +1,12 @@
 package com.stiksy.aoc2025.day11;
 
 import com.stiksy.aoc2025.util.InputReader;
+import com.stiksy.aoc2025.util.MappedInput;
+import com.stiksy.aoc2025.util.Solver;
 
 import java.util.*;
 
-public class Day11 {
+public class Day11 implements Solver<Map<String, List<String>>> {
 
     public static Map<String, List<String>> parseGraph(List<String> input) {
         Map<String, List<String>> graph = new HashMap<>();
@@ -47,11 +49,21 @@ public class Day11 {
         return pathCount;
     }
 
-    public long solvePart1(List<String> input) {
-        Map<String, List<String>> graph = parseGraph(input);
+    @Override
+    public Map<String, List<String>> parse(List<String> input) {
+        return parseGraph(input);
+    }
+
+    @Override
+    public long part1(Map<String, List<String>> graph) {
         return countPaths(graph, "you", "out");
     }
 
+    public long solvePart1(MappedInput input) {
+        // Devices are keyed by name, so the lines are decoded
+        return solvePart1(input.lines());
+    }
+
     static class State {
         String node;
         Set<String> requiredVisited;
@@ -170,12 +182,17 @@ public class Day11 {
         return pathCount;
     }
 
-    public long solvePart2(List<String> input) {
-        Map<String, List<String>> graph = parseGraph(input);
+    @Override
+    public long part2(Map<String, List<String>> graph) {
         Set<String> required = new HashSet<>(Arrays.asList("dac", "fft"));
         return countPathsWithRequired(graph, "svr", "out", required);
     }
 
+    public long solvePart2(MappedInput input) {
+        // Devices are keyed by name, so the lines are decoded
+        return solvePart2(input.lines());
+    }
+
     public static void main(String[] args) {
         Day11 solution = new Day11();
         List<String> input = InputReader.readLines("day11/input.txt");
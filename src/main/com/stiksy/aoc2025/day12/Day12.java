@@ -1,10 +1,15 @@
 package com.stiksy.aoc2025.day12;
 
 import com.stiksy.aoc2025.util.InputReader;
+import com.stiksy.aoc2025.util.MappedInput;
+import com.stiksy.aoc2025.util.Metrics;
+import com.stiksy.aoc2025.util.Solver;
 
 import java.util.*;
 
-public class Day12 {
+public class Day12 implements Solver<Day12.Farm> {
+
+    private static final Metrics.Counter BACKTRACK_NODES = Metrics.counter("day12.backtrackNodes");
 
     static class Shape {
         List<int[]> cells; // List of (row, col) coordinates
@@ -98,6 +103,22 @@ public class Day12 {
         }
     }
 
+    static class Farm {
+        List<Shape> shapes;
+        List<Region> regions;
+
+        Farm(List<Shape> shapes, List<Region> regions) {
+            this.shapes = shapes;
+            this.regions = regions;
+        }
+    }
+
+    @Override
+    public Farm parse(List<String> input) {
+        List<Shape> shapes = parseShapes(input);
+        return new Farm(shapes, parseRegions(input, shapes.size()));
+    }
+
     public static List<Shape> parseShapes(List<String> input) {
         List<Shape> shapes = new ArrayList<>();
         int i = 0;
@@ -161,8 +182,13 @@ public class Day12 {
     public boolean canFitPresents(Region region, List<Shape> shapes) {
         // Generate all orientations for each shape
         List<List<Shape>> allOrientations = new ArrayList<>();
-        for (Shape shape : shapes) {
-            allOrientations.add(shape.getAllOrientations());
+        Metrics.Span build = Metrics.phase(Metrics.Phase.BUILD);
+        try {
+            for (Shape shape : shapes) {
+                allOrientations.add(shape.getAllOrientations());
+            }
+        } finally {
+            build.close();
         }
 
         // Build list of presents to place
@@ -191,6 +217,7 @@ public class Day12 {
 
     private boolean backtrack(boolean[][] grid, List<Integer> presentsToPlace, int index,
                                List<List<Shape>> allOrientations) {
+        BACKTRACK_NODES.increment();
         if (index == presentsToPlace.size()) {
             return true; // All presents placed successfully
         }
@@ -239,13 +266,11 @@ public class Day12 {
         }
     }
 
-    public long solvePart1(List<String> input) {
-        List<Shape> shapes = parseShapes(input);
-        List<Region> regions = parseRegions(input, shapes.size());
-
+    @Override
+    public long part1(Farm farm) {
         int count = 0;
-        for (Region region : regions) {
-            if (canFitPresents(region, shapes)) {
+        for (Region region : farm.regions) {
+            if (canFitPresents(region, farm.shapes)) {
                 count++;
             }
         }
@@ -253,11 +278,22 @@ public class Day12 {
         return count;
     }
 
-    public long solvePart2(List<String> input) {
+    public long solvePart1(MappedInput input) {
+        // Shapes and regions are parsed by pattern matching, so the lines are decoded
+        return solvePart1(input.lines());
+    }
+
+    @Override
+    public long part2(Farm farm) {
         // Part 2 not yet revealed
         return 0;
     }
 
+    public long solvePart2(MappedInput input) {
+        // Shapes and regions are parsed by pattern matching, so the lines are decoded
+        return solvePart2(input.lines());
+    }
+
     public static void main(String[] args) {
         Day12 solution = new Day12();
         List<String> input = InputReader.readLines("day12/input.txt");
@@ -0,0 +1,526 @@
+package com.stiksy.aoc2025.util;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
+
+/**
+ * Deterministic synthetic inputs for every day, for stress tests and benchmarks beyond the
+ * puzzle sizes. The same day, size and seed always produce the same input.
+ *
+ * What {@code size} counts depends on the day:
+ * <ul>
+ *   <li>Day 1: rotations</li>
+ *   <li>Day 2: ranges, with ids of up to 12 digits (below 10^12) and at most
+ *   {@link #DAY02_MAX_WIDTH} ids wide; {@link #day02} takes a wider cap, up to the whole
+ *   digit length (about 10^12 ids)</li>
+ *   <li>Day 3: battery banks of 100 digits</li>
+ *   <li>Day 4: side of a square grid</li>
+ *   <li>Day 5: fresh ranges, and as many ingredient ids</li>
+ *   <li>Day 6: problems on the worksheet</li>
+ *   <li>Day 7: side of a square manifold</li>
+ *   <li>Day 8: junction boxes; the solver sorts every pair, so at most 65,536 boxes (and
+ *   memory for that many pairs)</li>
+ *   <li>Day 9: polygon vertices, rounded up to a multiple of 4</li>
+ *   <li>Day 10: machines</li>
+ *   <li>Day 11: devices</li>
+ *   <li>Day 12: regions</li>
+ * </ul>
+ *
+ * Lines are produced one at a time, so {@link #write} can emit inputs far larger than the
+ * heap (a 100k x 100k Day 4 grid is 10 GB). Answers that count paths or timelines (Days 7
+ * and 11) grow exponentially with the size and can overflow a {@code long} on large inputs.
+ *
+ * <pre>
+ * InputGenerator [--max-width N] DAY SIZE [SEED] [OUTPUT]
+ * </pre>
+ *
+ * {@code --max-width} sets the Day 2 range width cap.
+ */
+public class InputGenerator {
+
+    public static final long DEFAULT_SEED = 2025;
+
+    /** Default cap on the width of a Day 2 range, so the puzzle's brute-force scan stays feasible. */
+    public static final long DAY02_MAX_WIDTH = 100_000;
+
+    private static final String[] DAY11_RESERVED = {"svr", "you", "out", "fft", "dac"};
+
+    public static void main(String[] args) throws IOException {
+        long maxWidth = DAY02_MAX_WIDTH;
+        if (args.length > 1 && args[0].equals("--max-width")) {
+            maxWidth = Long.parseLong(args[1]);
+            args = Arrays.copyOfRange(args, 2, args.length);
+        }
+        if (args.length < 2) {
+            System.err.println("Usage: InputGenerator [--max-width N] DAY SIZE [SEED] [OUTPUT]");
+            System.exit(1);
+        }
+        int day = Integer.parseInt(args[0]);
+        int size = Integer.parseInt(args[1]);
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : DEFAULT_SEED;
+
+        if (args.length > 3) {
+            write(day, size, seed, maxWidth, Paths.get(args[3]));
+        } else {
+            Writer out = new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8));
+            generate(day, size, seed, maxWidth, line -> writeLine(out, line));
+            out.flush();
+        }
+    }
+
+    /** Generate an input in memory, as {@link InputReader#readLines(String)} would return it. */
+    public static List<String> generate(int day, int size, long seed) {
+        List<String> lines = new ArrayList<>();
+        generate(day, size, seed, lines::add);
+        return lines;
+    }
+
+    /** Stream an input to a file without holding it in memory. */
+    public static void write(int day, int size, long seed, Path path) throws IOException {
+        write(day, size, seed, DAY02_MAX_WIDTH, path);
+    }
+
+    private static void write(int day, int size, long seed, long day02MaxWidth, Path path) throws IOException {
+        try (Writer out = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            generate(day, size, seed, day02MaxWidth, line -> writeLine(out, line));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /** Feed the lines of an input to {@code out} one by one. */
+    public static void generate(int day, int size, long seed, Consumer<String> out) {
+        generate(day, size, seed, DAY02_MAX_WIDTH, out);
+    }
+
+    private static void generate(int day, int size, long seed, long day02MaxWidth, Consumer<String> out) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Size must be positive: " + size);
+        }
+        SplittableRandom random = new SplittableRandom(seed);
+        switch (day) {
+            case 1 -> day01(random, size, out);
+            case 2 -> day02(random, size, day02MaxWidth, out);
+            case 3 -> day03(random, size, out);
+            case 4 -> day04(random, size, out);
+            case 5 -> day05(random, size, out);
+            case 6 -> day06(random, size, out);
+            case 7 -> day07(random, size, out);
+            case 8 -> day08(random, size, out);
+            case 9 -> day09(random, size, out);
+            case 10 -> day10(random, size, out);
+            case 11 -> day11(random, size, out);
+            case 12 -> day12(random, size, out);
+            default -> throw new IllegalArgumentException("No generator for day " + day);
+        }
+    }
+
+    private static void writeLine(Writer out, String line) {
+        try {
+            out.write(line);
+            out.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void day01(SplittableRandom random, int rotations, Consumer<String> out) {
+        for (int i = 0; i < rotations; i++) {
+            out.accept((random.nextBoolean() ? "L" : "R") + random.nextInt(1, 1000));
+        }
+    }
+
+    /**
+     * A Day 2 input of {@code count} ranges, each at most {@code maxWidth} ids wide and never
+     * wider than the span of its start's digit length (9 * 10^(d-1) ids for d digits). With
+     * {@link Long#MAX_VALUE} the 12-digit ranges reach about 10^12 ids.
+     */
+    public static List<String> day02(int count, long maxWidth, long seed) {
+        List<String> lines = new ArrayList<>();
+        generate(2, count, seed, maxWidth, lines::add);
+        return lines;
+    }
+
+    private static void day02(SplittableRandom random, int count, long maxWidth, Consumer<String> out) {
+        if (maxWidth < 1) {
+            throw new IllegalArgumentException("Range width must be positive: " + maxWidth);
+        }
+        long[][] ranges = new long[count][];
+        for (int i = 0; i < count; i++) {
+            int digits = random.nextInt(1, 13);
+            long low = pow10(digits - 1);
+            long start = random.nextLong(low, low * 10);
+            ranges[i] = new long[]{start, start + random.nextLong(Math.min(maxWidth, low * 9))};
+        }
+
+        // The puzzle's ranges never overlap: push each one past its predecessor, then shuffle
+        Arrays.sort(ranges, (a, b) -> Long.compare(a[0], b[0]));
+        for (int i = 1; i < count; i++) {
+            long[] previous = ranges[i - 1];
+            if (ranges[i][0] <= previous[1]) {
+                long width = ranges[i][1] - ranges[i][0];
+                ranges[i][0] = previous[1] + 1;
+                ranges[i][1] = ranges[i][0] + width;
+            }
+        }
+        shuffle(random, ranges);
+
+        StringBuilder line = new StringBuilder(count * 24);
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                line.append(',');
+            }
+            line.append(ranges[i][0]).append('-').append(ranges[i][1]);
+        }
+        out.accept(line.toString());
+    }
+
+    private static void day03(SplittableRandom random, int banks, Consumer<String> out) {
+        char[] bank = new char[100];
+        for (int i = 0; i < banks; i++) {
+            for (int j = 0; j < bank.length; j++) {
+                bank[j] = (char) ('1' + random.nextInt(9));
+            }
+            out.accept(new String(bank));
+        }
+    }
+
+    private static void day04(SplittableRandom random, int side, Consumer<String> out) {
+        char[] row = new char[side];
+        for (int r = 0; r < side; r++) {
+            for (int c = 0; c < side; c++) {
+                // About the roll density of the puzzle input
+                row[c] = random.nextInt(100) < 65 ? '@' : '.';
+            }
+            out.accept(new String(row));
+        }
+    }
+
+    private static void day05(SplittableRandom random, int count, Consumer<String> out) {
+        long limit = 1_000_000_000_000_000L;
+        for (int i = 0; i < count; i++) {
+            long start = random.nextLong(1, limit);
+            out.accept(start + "-" + (start + random.nextLong(1_000_000_000_000L)));
+        }
+        out.accept("");
+        for (int i = 0; i < count; i++) {
+            out.accept(Long.toString(random.nextLong(1, limit)));
+        }
+    }
+
+    private static void day06(SplittableRandom random, int problems, Consumer<String> out) {
+        int rows = 4;
+        StringBuilder[] lines = new StringBuilder[rows + 1];
+        for (int i = 0; i <= rows; i++) {
+            lines[i] = new StringBuilder(problems * 5);
+        }
+
+        for (int p = 0; p < problems; p++) {
+            String[] numbers = new String[rows];
+            int width = 0;
+            for (int i = 0; i < rows; i++) {
+                numbers[i] = Integer.toString(random.nextInt(1, (int) pow10(random.nextInt(1, 5))));
+                width = Math.max(width, numbers[i].length());
+            }
+
+            // Numbers of one problem are either all left or all right aligned
+            boolean leftAligned = random.nextBoolean();
+            for (int i = 0; i < rows; i++) {
+                if (p > 0) {
+                    lines[i].append(' ');
+                }
+                String padding = " ".repeat(width - numbers[i].length());
+                lines[i].append(leftAligned ? numbers[i] + padding : padding + numbers[i]);
+            }
+            if (p > 0) {
+                lines[rows].append(' ');
+            }
+            lines[rows].append(random.nextBoolean() ? '+' : '*').append(" ".repeat(width - 1));
+        }
+
+        for (StringBuilder line : lines) {
+            out.accept(line.toString());
+        }
+    }
+
+    private static void day07(SplittableRandom random, int side, Consumer<String> out) {
+        char[] row = new char[side];
+        Arrays.fill(row, '.');
+        row[side / 2] = 'S';
+        out.accept(new String(row));
+        row[side / 2] = '.';
+
+        for (int r = 1; r < side; r++) {
+            Arrays.fill(row, '.');
+            // Splitters sit on every other row, never on the edge columns
+            if (r % 2 == 0) {
+                for (int c = 1; c < side - 1; c++) {
+                    if (random.nextInt(100) < 15) {
+                        row[c] = '^';
+                    }
+                }
+            }
+            out.accept(new String(row));
+        }
+    }
+
+    private static void day08(SplittableRandom random, int boxes, Consumer<String> out) {
+        for (int i = 0; i < boxes; i++) {
+            out.accept(random.nextInt(100_000) + "," + random.nextInt(100_000) + "," + random.nextInt(100_000));
+        }
+    }
+
+    /**
+     * A rectilinear polygon made of a random skyline above y = 50000 and another below it,
+     * sharing the same x coordinates. Consecutive vertices share a row or a column and the
+     * boundary never crosses itself.
+     */
+    private static void day09(SplittableRandom random, int vertices, Consumer<String> out) {
+        int columns = Math.max(1, (vertices + 3) / 4);
+        int maxGap = Math.max(1, 200_000 / columns);
+
+        long[] xs = new long[columns + 1];
+        for (int i = 1; i <= columns; i++) {
+            xs[i] = xs[i - 1] + random.nextInt(1, maxGap + 1);
+        }
+        int[] top = skyline(random, columns, 50_001, 100_000);
+        int[] bottom = skyline(random, columns, 0, 50_000);
+
+        for (int i = 0; i < columns; i++) {
+            out.accept(xs[i] + "," + top[i]);
+            out.accept(xs[i + 1] + "," + top[i]);
+        }
+        for (int i = columns - 1; i >= 0; i--) {
+            out.accept(xs[i + 1] + "," + bottom[i]);
+            out.accept(xs[i] + "," + bottom[i]);
+        }
+    }
+
+    /** Heights in {@code [min, max)} where neighbours differ, so no vertex is collinear. */
+    private static int[] skyline(SplittableRandom random, int columns, int min, int max) {
+        int[] heights = new int[columns];
+        for (int i = 0; i < columns; i++) {
+            do {
+                heights[i] = random.nextInt(min, max);
+            } while (i > 0 && heights[i] == heights[i - 1]);
+        }
+        return heights;
+    }
+
+    /**
+     * Machines are built backwards from a random press count per button, so the joltage
+     * targets are always reachable. The light pattern is the parity of a second random set of
+     * presses, so it is reachable too.
+     */
+    private static void day10(SplittableRandom random, int machines, Consumer<String> out) {
+        for (int m = 0; m < machines; m++) {
+            int lights = random.nextInt(4, 11);
+            int buttonCount = random.nextInt(lights - 1, lights + 4);
+
+            List<int[]> buttons = new ArrayList<>(buttonCount);
+            boolean[] covered = new boolean[lights];
+            for (int b = 0; b < buttonCount; b++) {
+                int[] button = random.ints(0, lights).distinct().limit(random.nextInt(1, lights)).sorted().toArray();
+                for (int light : button) {
+                    covered[light] = true;
+                }
+                buttons.add(button);
+            }
+            // Every counter needs a button, otherwise its target could only be zero
+            for (int light = 0; light < lights; light++) {
+                if (!covered[light]) {
+                    int b = random.nextInt(buttonCount);
+                    int[] button = Arrays.copyOf(buttons.get(b), buttons.get(b).length + 1);
+                    button[button.length - 1] = light;
+                    Arrays.sort(button);
+                    buttons.set(b, button);
+                }
+            }
+
+            boolean[] pattern = new boolean[lights];
+            int[] joltage = new int[lights];
+            for (int[] button : buttons) {
+                boolean toggled = random.nextBoolean();
+                int presses = random.nextInt(0, 21);
+                for (int light : button) {
+                    pattern[light] ^= toggled;
+                    joltage[light] += presses;
+                }
+            }
+
+            StringBuilder line = new StringBuilder("[");
+            for (boolean on : pattern) {
+                line.append(on ? '#' : '.');
+            }
+            line.append(']');
+            for (int[] button : buttons) {
+                line.append(" (");
+                for (int i = 0; i < button.length; i++) {
+                    line.append(i > 0 ? "," : "").append(button[i]);
+                }
+                line.append(')');
+            }
+            line.append(" {");
+            for (int i = 0; i < lights; i++) {
+                line.append(i > 0 ? "," : "").append(joltage[i]);
+            }
+            out.accept(line.append('}').toString());
+        }
+    }
+
+    /**
+     * A DAG over the devices in a fixed topological order: "svr" first, "out" last, "fft" and
+     * "dac" a third and two thirds of the way along, and "you" near the end so the part 1 path
+     * count stays small. Every device links to 1-3 devices shortly after it, so all paths
+     * end at "out", and every device has a link from an earlier one, so all are reachable
+     * from "svr".
+     */
+    private static void day11(SplittableRandom random, int devices, Consumer<String> out) {
+        int count = Math.max(devices, DAY11_RESERVED.length);
+        String[] names = new String[count];
+        names[0] = "svr";
+        names[count - 1] = "out";
+        names[count / 3] = "fft";
+        names[2 * count / 3] = "dac";
+        int you = Math.max(1, count - 20);
+        while (names[you] != null) {
+            you = you == count - 1 ? 1 : you + 1;
+        }
+        names[you] = "you";
+        int next = 0;
+        for (int i = 0; i < count; i++) {
+            if (names[i] == null) {
+                String name;
+                do {
+                    name = deviceName(next++);
+                } while (Arrays.asList(DAY11_RESERVED).contains(name));
+                names[i] = name;
+            }
+        }
+
+        boolean[] linked = new boolean[count];
+        for (int i = 0; i < count - 1; i++) {
+            int window = Math.min(10, count - 1 - i);
+            int roll = random.nextInt(10);
+            int degree = Math.min(window, roll < 6 ? 1 : roll < 9 ? 2 : 3);
+            int[] targets = random.ints(i + 1, i + 1 + window).distinct().limit(degree).toArray();
+            // Only earlier devices can link here, so this is the last chance to make the next
+            // device reachable from "svr"
+            int following = i + 1;
+            if (!linked[following] && Arrays.stream(targets).noneMatch(t -> t == following)) {
+                targets[0] = following;
+            }
+            for (int target : targets) {
+                linked[target] = true;
+            }
+            StringBuilder line = new StringBuilder(names[i]).append(':');
+            for (int target : targets) {
+                line.append(' ').append(names[target]);
+            }
+            out.accept(line.toString());
+        }
+    }
+
+    /** "aaa", "aab", ... and four letters once the three-letter names run out. */
+    private static String deviceName(int index) {
+        StringBuilder name = new StringBuilder();
+        int length = 3;
+        int block = 26 * 26 * 26;
+        while (index >= block) {
+            index -= block;
+            block *= 26;
+            length++;
+        }
+        for (int i = 0; i < length; i++) {
+            name.append((char) ('a' + index % 26));
+            index /= 26;
+        }
+        return name.reverse().toString();
+    }
+
+    /**
+     * Six 3x3 shapes, then the regions. Like the puzzle input, each region is either loose
+     * enough to pack one present per 3x3 block or needs more cells than it has.
+     */
+    private static void day12(SplittableRandom random, int regions, Consumer<String> out) {
+        int shapeCount = 6;
+        int[] cells = new int[shapeCount];
+        for (int s = 0; s < shapeCount; s++) {
+            out.accept(s + ":");
+            boolean[] filled = new boolean[9];
+            // The centre keeps every shape in one piece
+            filled[4] = true;
+            cells[s] = 1;
+            int target = random.nextInt(5, 8);
+            while (cells[s] < target) {
+                int cell = random.nextInt(9);
+                if (!filled[cell]) {
+                    filled[cell] = true;
+                    cells[s]++;
+                }
+            }
+            for (int r = 0; r < 3; r++) {
+                StringBuilder row = new StringBuilder(3);
+                for (int c = 0; c < 3; c++) {
+                    row.append(filled[r * 3 + c] ? '#' : '.');
+                }
+                out.accept(row.toString());
+            }
+            out.accept("");
+        }
+
+        for (int i = 0; i < regions; i++) {
+            int width = random.nextInt(35, 51);
+            int height = random.nextInt(35, 51);
+            int[] counts = new int[shapeCount];
+            if (random.nextBoolean()) {
+                int presents = random.nextInt((width / 3) * (height / 3) + 1);
+                for (int p = 0; p < presents; p++) {
+                    counts[random.nextInt(shapeCount)]++;
+                }
+            } else {
+                int needed = 0;
+                while (needed <= width * height) {
+                    int s = random.nextInt(shapeCount);
+                    counts[s]++;
+                    needed += cells[s];
+                }
+            }
+
+            StringBuilder line = new StringBuilder().append(width).append('x').append(height).append(':');
+            for (int count : counts) {
+                line.append(' ').append(count);
+            }
+            out.accept(line.toString());
+        }
+    }
+
+    private static long pow10(int exponent) {
+        long value = 1;
+        for (int i = 0; i < exponent; i++) {
+            value *= 10;
+        }
+        return value;
+    }
+
+    private static void shuffle(SplittableRandom random, long[][] values) {
+        for (int i = values.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            long[] swap = values[i];
+            values[i] = values[j];
+            values[j] = swap;
+        }
+    }
+}
@@ -4,7 +4,10 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -49,4 +52,140 @@ public class InputReader {
                 .filter(line -> !line.trim().isEmpty())
                 .collect(Collectors.toList());
     }
+
+    public static byte[] readBytes(String filename) {
+        try (InputStream is = InputReader.class.getClassLoader().getResourceAsStream(filename)) {
+            return is.readAllBytes();
+        } catch (IOException | NullPointerException e) {
+            System.err.println("Error reading input file: " + filename);
+            e.printStackTrace();
+            return new byte[0];
+        }
+    }
+
+    /**
+     * Read every number in the file into a primitive array, parsing digits straight from
+     * the bytes. Numbers are separated by whitespace or line breaks.
+     */
+    public static int[] readIntArray(String filename) {
+        return readIntArray(filename, "");
+    }
+
+    /**
+     * Like {@link #readIntArray(String)}, with extra delimiter characters, e.g. {@code ","} for
+     * {@code x,y,z} triples or {@code ",-"} for {@code start-end} ranges. When {@code '-'} is a
+     * delimiter it is never read as a minus sign.
+     */
+    public static int[] readIntArray(String filename, String delimiters) {
+        IntBuffer numbers = readIntBuffer(filename, delimiters);
+        return Arrays.copyOf(numbers.array(), numbers.limit());
+    }
+
+    public static long[] readLongArray(String filename) {
+        return readLongArray(filename, "");
+    }
+
+    public static long[] readLongArray(String filename, String delimiters) {
+        LongBuffer numbers = readLongBuffer(filename, delimiters);
+        return Arrays.copyOf(numbers.array(), numbers.limit());
+    }
+
+    /** Like {@link #readIntArray(String, String)}, but returns the parse buffer without trimming it. */
+    public static IntBuffer readIntBuffer(String filename, String delimiters) {
+        return parseInts(readBytes(filename), delimiters);
+    }
+
+    public static LongBuffer readLongBuffer(String filename, String delimiters) {
+        return parseLongs(readBytes(filename), delimiters);
+    }
+
+    public static IntBuffer parseInts(byte[] bytes, String delimiters) {
+        Tokenizer tokens = new Tokenizer(bytes, delimiters);
+        // Rough guess of one number per 4 bytes keeps regrowth rare
+        int[] numbers = new int[Math.max(16, bytes.length / 4)];
+        int count = 0;
+
+        while (tokens.next(Integer.MAX_VALUE)) {
+            if (count == numbers.length) {
+                numbers = Arrays.copyOf(numbers, count * 2);
+            }
+            numbers[count++] = (int) tokens.value;
+        }
+
+        return IntBuffer.wrap(numbers, 0, count);
+    }
+
+    public static LongBuffer parseLongs(byte[] bytes, String delimiters) {
+        Tokenizer tokens = new Tokenizer(bytes, delimiters);
+        // Rough guess of one number per 8 bytes keeps regrowth rare
+        long[] numbers = new long[Math.max(16, bytes.length / 8)];
+        int count = 0;
+
+        while (tokens.next(Long.MAX_VALUE)) {
+            if (count == numbers.length) {
+                numbers = Arrays.copyOf(numbers, count * 2);
+            }
+            numbers[count++] = tokens.value;
+        }
+
+        return LongBuffer.wrap(numbers, 0, count);
+    }
+
+    /** Splits the bytes into numbers; the int and long parsers share it and keep their own storage. */
+    private static class Tokenizer {
+        private final byte[] bytes;
+        private final boolean[] isDelimiter = new boolean[128];
+        private int pos;
+        long value;
+
+        Tokenizer(byte[] bytes, String delimiters) {
+            this.bytes = bytes;
+            isDelimiter[' '] = isDelimiter['\t'] = isDelimiter['\n'] = isDelimiter['\r'] = true;
+            for (int i = 0; i < delimiters.length(); i++) {
+                char delimiter = delimiters.charAt(i);
+                if (delimiter >= 128) {
+                    throw new IllegalArgumentException("Delimiter is not ASCII: U+"
+                            + String.format("%04X", (int) delimiter));
+                }
+                isDelimiter[delimiter] = true;
+            }
+        }
+
+        /**
+         * Parse the next number into {@link #value}, or return false at the end of the input.
+         * A number above {@code max} or below {@code -max - 1} is rejected.
+         */
+        boolean next(long max) {
+            while (pos < bytes.length && bytes[pos] >= 0 && isDelimiter[bytes[pos]]) {
+                pos++;
+            }
+            if (pos == bytes.length) {
+                return false;
+            }
+
+            boolean negative = bytes[pos] == '-';
+            if (negative) {
+                pos++;
+            }
+            // Accumulate downwards, since the most negative value has no positive counterpart
+            long min = negative ? -max - 1 : -max;
+
+            int start = pos;
+            long accumulated = 0;
+            while (pos < bytes.length && bytes[pos] >= '0' && bytes[pos] <= '9') {
+                int digit = bytes[pos] - '0';
+                if (accumulated < (min + digit) / 10) {
+                    throw new NumberFormatException("Value out of range at byte offset " + start);
+                }
+                accumulated = accumulated * 10 - digit;
+                pos++;
+            }
+            if (pos == start || (pos < bytes.length && (bytes[pos] < 0 || !isDelimiter[bytes[pos]]))) {
+                throw new NumberFormatException("Unexpected character at byte offset " + pos);
+            }
+
+            value = negative ? accumulated : -accumulated;
+            return true;
+        }
+    }
 }
@@ -0,0 +1,118 @@
+package com.stiksy.aoc2025.util;
+
+/**
+ * Fixed-size latency histogram in the style of HdrHistogram.
+ *
+ * Values (usually nanoseconds) below 128 get a bucket each. Above that, every power of two
+ * is split into 64 linear sub-buckets, so a recorded value is known to within 1/64 (1.6%)
+ * whatever its magnitude, and the whole range of {@code long} fits in a few thousand
+ * counters. Min, max, mean and standard deviation are tracked exactly.
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKETS = 64;
+    private static final int LINEAR_LIMIT = 2 * SUB_BUCKETS;
+    private static final int BUCKETS = LINEAR_LIMIT + 56 * SUB_BUCKETS;
+
+    private final long[] counts = new long[BUCKETS];
+    private long totalCount;
+    private long min = Long.MAX_VALUE;
+    private long max;
+    private double sum;
+    private double sumOfSquares;
+
+    public void record(long value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("Negative latency: " + value);
+        }
+        counts[bucketOf(value)]++;
+        totalCount++;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+        sum += value;
+        sumOfSquares += (double) value * value;
+    }
+
+    public void add(LatencyHistogram other) {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] += other.counts[i];
+        }
+        totalCount += other.totalCount;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+        sum += other.sum;
+        sumOfSquares += other.sumOfSquares;
+    }
+
+    public long count() {
+        return totalCount;
+    }
+
+    public long min() {
+        return totalCount == 0 ? 0 : min;
+    }
+
+    public long max() {
+        return max;
+    }
+
+    public double mean() {
+        return totalCount == 0 ? 0 : sum / totalCount;
+    }
+
+    /** Population standard deviation, like the old performance script. */
+    public double stdDev() {
+        if (totalCount == 0) {
+            return 0;
+        }
+        double mean = mean();
+        return Math.sqrt(Math.max(0, sumOfSquares / totalCount - mean * mean));
+    }
+
+    /**
+     * The value below which {@code percentile} percent of the recordings fall, reported as
+     * the middle of its bucket and clamped to the recorded min and max.
+     */
+    public long valueAtPercentile(double percentile) {
+        if (totalCount == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * totalCount));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                long middle = lowestValueIn(i) + (highestValueIn(i) - lowestValueIn(i)) / 2;
+                return Math.min(max, Math.max(min, middle));
+            }
+        }
+        return max;
+    }
+
+    static int bucketOf(long value) {
+        if (value < LINEAR_LIMIT) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - 6;
+        int top = (int) (value >>> shift);
+        return LINEAR_LIMIT + (shift - 1) * SUB_BUCKETS + (top - SUB_BUCKETS);
+    }
+
+    static long lowestValueIn(int bucket) {
+        if (bucket < LINEAR_LIMIT) {
+            return bucket;
+        }
+        int shift = (bucket - LINEAR_LIMIT) / SUB_BUCKETS + 1;
+        long top = (bucket - LINEAR_LIMIT) % SUB_BUCKETS + SUB_BUCKETS;
+        return top << shift;
+    }
+
+    static long highestValueIn(int bucket) {
+        if (bucket < LINEAR_LIMIT) {
+            return bucket;
+        }
+        int shift = (bucket - LINEAR_LIMIT) / SUB_BUCKETS + 1;
+        // The top bucket ends at Long.MAX_VALUE, which (top + 1) << shift would overflow
+        return lowestValueIn(bucket) + ((1L << shift) - 1);
+    }
+}
@@ -0,0 +1,217 @@
+package com.stiksy.aoc2025.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Pull-based cursor over the lines of an input stream.
+ *
+ * Only the current line is held in memory, in a byte buffer that is reused for every
+ * line, so a solver can process inputs of any size in a single pass. The cursor is itself
+ * a {@link CharSequence} over the current line, which lets existing string-oriented
+ * helpers read it without copying.
+ *
+ * By default records are lines, split like {@link java.io.BufferedReader#readLine()}.
+ * A cursor can instead split on a single delimiter byte, e.g. the commas of Day 2.
+ */
+public class LineCursor implements CharSequence, AutoCloseable {
+
+    private static final int CHUNK_SIZE = 64 * 1024;
+
+    private final InputStream in;
+    private final byte delimiter;
+    private final byte[] chunk = new byte[CHUNK_SIZE];
+    private int chunkPos;
+    private int chunkLimit;
+    private boolean skipLineFeed;
+    private boolean eof;
+
+    private byte[] line = new byte[256];
+    private int length;
+
+    private LineCursor(InputStream in, byte delimiter) {
+        this.in = in;
+        this.delimiter = delimiter;
+    }
+
+    public static LineCursor of(InputStream in) {
+        return new LineCursor(in, (byte) '\n');
+    }
+
+    public static LineCursor of(InputStream in, byte delimiter) {
+        return new LineCursor(in, delimiter);
+    }
+
+    public static LineCursor of(Path path) throws IOException {
+        return of(Files.newInputStream(path));
+    }
+
+    public static LineCursor ofResource(String filename) {
+        return ofResource(filename, (byte) '\n');
+    }
+
+    public static LineCursor ofResource(String filename, byte delimiter) {
+        InputStream is = LineCursor.class.getClassLoader().getResourceAsStream(filename);
+        if (is == null) {
+            System.err.println("Error reading input file: " + filename);
+            is = new ByteArrayInputStream(new byte[0]);
+        }
+        return new LineCursor(is, delimiter);
+    }
+
+    /** The record delimiter; {@code '\n'} means lines. */
+    public byte delimiter() {
+        return delimiter;
+    }
+
+    /**
+     * Advance to the next record.
+     *
+     * @return false once the input is exhausted
+     */
+    public boolean next() {
+        length = 0;
+        boolean sawByte = false;
+
+        while (true) {
+            if (chunkPos == chunkLimit && !fill()) {
+                // A final record without a trailing delimiter still counts
+                return sawByte;
+            }
+
+            byte b = chunk[chunkPos++];
+            if (skipLineFeed) {
+                skipLineFeed = false;
+                if (b == '\n') {
+                    continue;
+                }
+            }
+
+            if (delimiter == '\n' && (b == '\n' || b == '\r')) {
+                skipLineFeed = b == '\r';
+                return true;
+            }
+            if (b == delimiter) {
+                return true;
+            }
+
+            if (length == line.length) {
+                line = Arrays.copyOf(line, length * 2);
+            }
+            line[length++] = b;
+            sawByte = true;
+        }
+    }
+
+    private boolean fill() {
+        if (eof) {
+            return false;
+        }
+        try {
+            int read = in.read(chunk, 0, chunk.length);
+            if (read <= 0) {
+                eof = true;
+                return false;
+            }
+            chunkPos = 0;
+            chunkLimit = read;
+            return true;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        return (char) (line[index] & 0xFF);
+    }
+
+    public byte byteAt(int index) {
+        return line[index];
+    }
+
+    public boolean isBlank() {
+        for (int i = 0; i < length; i++) {
+            if (line[i] != ' ' && line[i] != '\t') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** First index of {@code b} at or after {@code from} in the current record, or -1. */
+    public int indexOf(byte b, int from) {
+        for (int i = from; i < length; i++) {
+            if (line[i] == b) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Parse a decimal number from {@code [from, to)} of the current record. Surrounding
+     * spaces are skipped and a leading minus sign is accepted.
+     */
+    public long parseLong(int from, int to) {
+        while (from < to && line[from] == ' ') {
+            from++;
+        }
+        while (to > from && line[to - 1] == ' ') {
+            to--;
+        }
+        if (from == to) {
+            throw new NumberFormatException("Empty number in record: " + this);
+        }
+
+        boolean negative = line[from] == '-';
+        if (negative) {
+            from++;
+        }
+
+        long value = 0;
+        for (int i = from; i < to; i++) {
+            int digit = line[i] - '0';
+            if (digit < 0 || digit > 9) {
+                throw new NumberFormatException("Invalid digit in record: " + this);
+            }
+            value = value * 10 + digit;
+        }
+        return negative ? -value : value;
+    }
+
+    public int parseInt(int from, int to) {
+        return Math.toIntExact(parseLong(from, to));
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        return toString().subSequence(start, end);
+    }
+
+    /** Decode the current record. */
+    @Override
+    public String toString() {
+        return new String(line, 0, length, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void close() {
+        try {
+            in.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,252 @@
+package com.stiksy.aoc2025.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Zero-copy view of an input file.
+ *
+ * The file is memory-mapped with {@link FileChannel#map} and lines are exposed as
+ * offset/length slices over the underlying {@link ByteBuffer}, so no per-line
+ * {@code String} is created. Line splitting follows {@link java.io.BufferedReader#readLine()}
+ * ({@code \n}, {@code \r} or {@code \r\n}), which keeps line numbering identical to
+ * {@link InputReader#readLines(String)}.
+ *
+ * A single mapping is limited to 2 GB, the maximum size of a {@link ByteBuffer}.
+ */
+public class MappedInput {
+
+    private final ByteBuffer buffer;
+    private int[] lineStarts = new int[1024];
+    private int[] lineEnds = new int[1024];
+    private int lineCount;
+
+    private MappedInput(ByteBuffer buffer) {
+        this.buffer = buffer;
+        indexLines();
+    }
+
+    /**
+     * Map a classpath resource. Resources on the file system are mapped directly; resources
+     * packaged inside a jar cannot be mapped and are read into a heap buffer instead.
+     */
+    public static MappedInput ofResource(String filename) {
+        URL url = MappedInput.class.getClassLoader().getResource(filename);
+        try {
+            if (url == null) {
+                throw new IOException("Resource not found: " + filename);
+            }
+            if ("file".equals(url.getProtocol())) {
+                return of(Paths.get(url.toURI()));
+            }
+            try (InputStream is = url.openStream()) {
+                return wrap(is.readAllBytes());
+            }
+        } catch (IOException | URISyntaxException e) {
+            System.err.println("Error reading input file: " + filename);
+            e.printStackTrace();
+            return wrap(new byte[0]);
+        }
+    }
+
+    public static MappedInput of(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Input too large to map in one buffer: " + path + " (" + size + " bytes)");
+            }
+            // The mapping stays valid after the channel is closed
+            return new MappedInput(channel.map(FileChannel.MapMode.READ_ONLY, 0, size));
+        }
+    }
+
+    public static MappedInput wrap(byte[] bytes) {
+        return new MappedInput(ByteBuffer.wrap(bytes).asReadOnlyBuffer());
+    }
+
+    private void indexLines() {
+        int limit = buffer.limit();
+        int start = 0;
+        int pos = 0;
+        while (pos < limit) {
+            byte b = buffer.get(pos);
+            if (b == '\n' || b == '\r') {
+                addLine(start, pos);
+                pos++;
+                if (b == '\r' && pos < limit && buffer.get(pos) == '\n') {
+                    pos++;
+                }
+                start = pos;
+            } else {
+                pos++;
+            }
+        }
+        // Last line without a trailing line terminator
+        if (start < limit) {
+            addLine(start, limit);
+        }
+    }
+
+    private void addLine(int start, int end) {
+        if (lineCount == lineStarts.length) {
+            lineStarts = Arrays.copyOf(lineStarts, lineCount * 2);
+            lineEnds = Arrays.copyOf(lineEnds, lineCount * 2);
+        }
+        lineStarts[lineCount] = start;
+        lineEnds[lineCount] = end;
+        lineCount++;
+    }
+
+    /** The mapped bytes. All offsets returned by this class are absolute positions in this buffer. */
+    public ByteBuffer buffer() {
+        return buffer;
+    }
+
+    public int size() {
+        return buffer.limit();
+    }
+
+    public int lineCount() {
+        return lineCount;
+    }
+
+    public int lineStart(int line) {
+        return lineStarts[line];
+    }
+
+    /** Offset one past the last byte of the line, excluding the line terminator. */
+    public int lineEnd(int line) {
+        return lineEnds[line];
+    }
+
+    public int lineLength(int line) {
+        return lineEnds[line] - lineStarts[line];
+    }
+
+    public byte byteAt(int offset) {
+        return buffer.get(offset);
+    }
+
+    public boolean isBlank(int line) {
+        for (int i = lineStarts[line]; i < lineEnds[line]; i++) {
+            byte b = buffer.get(i);
+            if (b != ' ' && b != '\t') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** First offset of {@code b} in {@code [from, to)}, or -1. */
+    public int indexOf(byte b, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (buffer.get(i) == b) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Parse a decimal number from {@code [from, to)}. Surrounding spaces are skipped and a
+     * leading minus sign is accepted.
+     */
+    public long parseLong(int from, int to) {
+        while (from < to && buffer.get(from) == ' ') {
+            from++;
+        }
+        while (to > from && buffer.get(to - 1) == ' ') {
+            to--;
+        }
+        if (from == to) {
+            throw new NumberFormatException("Empty number at offset " + from);
+        }
+
+        boolean negative = buffer.get(from) == '-';
+        if (negative) {
+            from++;
+        }
+
+        long value = 0;
+        for (int i = from; i < to; i++) {
+            int digit = buffer.get(i) - '0';
+            if (digit < 0 || digit > 9) {
+                throw new NumberFormatException("Invalid digit at offset " + i);
+            }
+            value = value * 10 + digit;
+        }
+        return negative ? -value : value;
+    }
+
+    public int parseInt(int from, int to) {
+        return Math.toIntExact(parseLong(from, to));
+    }
+
+    /** Decode a single line. Intended for the parts of a solution that still need a {@code String}. */
+    public String lineAsString(int line) {
+        byte[] bytes = new byte[lineLength(line)];
+        buffer.get(lineStarts[line], bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /** Decode every line, equivalent to {@link InputReader#readLines(String)} on the same file. */
+    public List<String> lines() {
+        List<String> lines = new ArrayList<>(lineCount);
+        for (int i = 0; i < lineCount; i++) {
+            lines.add(lineAsString(i));
+        }
+        return lines;
+    }
+
+    /** A reusable window over one line, so string-oriented code can read it without copying. */
+    public Slice slice() {
+        return new Slice();
+    }
+
+    public final class Slice implements CharSequence {
+        private int start;
+        private int end;
+
+        private Slice() {
+        }
+
+        public Slice select(int line) {
+            start = lineStarts[line];
+            end = lineEnds[line];
+            return this;
+        }
+
+        @Override
+        public int length() {
+            return end - start;
+        }
+
+        @Override
+        public char charAt(int index) {
+            return (char) (buffer.get(start + index) & 0xFF);
+        }
+
+        @Override
+        public CharSequence subSequence(int from, int to) {
+            return toString().subSequence(from, to);
+        }
+
+        @Override
+        public String toString() {
+            byte[] bytes = new byte[end - start];
+            buffer.get(start, bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,291 @@
+package com.stiksy.aoc2025.util;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lightweight per-phase instrumentation for the solvers.
+ *
+ * A {@link Report} is opened per step (parsing a day, or solving one part) on the current
+ * thread. Inside it, solvers mark phases, closing the span in a {@code finally} block so an
+ * exception does not leave it open:
+ *
+ * <pre>
+ * Metrics.Span build = Metrics.phase(Metrics.Phase.BUILD);
+ * try {
+ *     ...
+ * } finally {
+ *     build.close();
+ * }
+ * </pre>
+ *
+ * (A try-with-resources block whose span is never referenced draws javac's {@code [try]}
+ * lint warning.) Opening a span allocates and reads the thread's allocation counter, so
+ * spans belong around whole phases, not inside per-candidate loops.
+ *
+ * Each phase records wall time and the bytes allocated by the thread. Phases nest, and a
+ * nested phase is not counted in its parent, so the phases of a step add up to the step.
+ * Solvers also bump named {@link Counter}s (backtracking nodes, search leaves, ...), and the
+ * report keeps how much each counter moved during the step.
+ *
+ * Everything is off by default. While disabled, {@link #phase} returns a shared no-op span
+ * and counters skip the increment, so instrumented code costs a field read.
+ * Counters are global, so reports are only exact when steps run one at a time.
+ */
+public final class Metrics {
+
+    public enum Phase {
+        PARSE, BUILD, SEARCH, VERIFY;
+
+        String label() {
+            return name().toLowerCase();
+        }
+    }
+
+    private static volatile boolean enabled;
+
+    private static final Map<String, Counter> COUNTERS = new ConcurrentHashMap<>();
+    private static final ThreadLocal<Report> CURRENT = new ThreadLocal<>();
+    private static final com.sun.management.ThreadMXBean THREADS = allocationBean();
+
+    private static final Span NO_OP = new Span(null);
+
+    private Metrics() {
+    }
+
+    public static void setEnabled(boolean on) {
+        enabled = on;
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /** The counter with this name, created on first use. Keep it in a static field. */
+    public static Counter counter(String name) {
+        return COUNTERS.computeIfAbsent(name, Counter::new);
+    }
+
+    /** Start a report for one step on this thread; {@code phase} covers the step itself. */
+    public static void begin(int day, String step, Phase phase) {
+        if (!enabled) {
+            return;
+        }
+        Report report = new Report(day, step);
+        CURRENT.set(report);
+        report.enter(phase);
+    }
+
+    /** Finish this thread's report, or return null if none was started. */
+    public static Report end() {
+        Report report = CURRENT.get();
+        if (report == null) {
+            return null;
+        }
+        CURRENT.remove();
+        while (report.depth > 0) {
+            report.exit();
+        }
+        report.finish();
+        return report;
+    }
+
+    /** Mark a phase of the current step, ended by closing the span. */
+    public static Span phase(Phase phase) {
+        if (!enabled) {
+            return NO_OP;
+        }
+        Report report = CURRENT.get();
+        if (report == null) {
+            return NO_OP;
+        }
+        report.enter(phase);
+        return new Span(report);
+    }
+
+    private static com.sun.management.ThreadMXBean allocationBean() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+                && bean.isThreadAllocatedMemorySupported()) {
+            bean.setThreadAllocatedMemoryEnabled(true);
+            return bean;
+        }
+        return null;
+    }
+
+    private static long threadAllocatedBytes() {
+        return THREADS == null ? 0 : THREADS.getCurrentThreadAllocatedBytes();
+    }
+
+    public static final class Counter {
+        private final String name;
+        private final LongAdder count = new LongAdder();
+
+        private Counter(String name) {
+            this.name = name;
+        }
+
+        public void increment() {
+            if (enabled) {
+                count.increment();
+            }
+        }
+
+        public void add(long amount) {
+            if (enabled) {
+                count.add(amount);
+            }
+        }
+
+        public String name() {
+            return name;
+        }
+
+        public long value() {
+            return count.sum();
+        }
+    }
+
+    public static final class Span implements AutoCloseable {
+        private final Report report;
+
+        private Span(Report report) {
+            this.report = report;
+        }
+
+        @Override
+        public void close() {
+            if (report != null) {
+                report.exit();
+            }
+        }
+    }
+
+    /** Phase totals and counter deltas of one step. */
+    public static final class Report {
+        private final int day;
+        private final String step;
+        private final Map<Phase, long[]> phases = new EnumMap<>(Phase.class);
+        private final Map<String, Long> counters = new TreeMap<>();
+        private final Map<String, Long> countersAtStart = new TreeMap<>();
+
+        private final Phase[] stack = new Phase[16];
+        private int depth;
+        private long markNanos;
+        private long markBytes;
+
+        private Report(int day, String step) {
+            this.day = day;
+            this.step = step;
+            for (Counter counter : COUNTERS.values()) {
+                countersAtStart.put(counter.name, counter.value());
+            }
+        }
+
+        public int day() {
+            return day;
+        }
+
+        public String step() {
+            return step;
+        }
+
+        /** Phases that ran, with {nanos, allocated bytes}, in phase order. */
+        public Map<Phase, long[]> phases() {
+            return phases;
+        }
+
+        /** Counters that moved during the step. */
+        public Map<String, Long> counters() {
+            return counters;
+        }
+
+        public long nanos(Phase phase) {
+            long[] totals = phases.get(phase);
+            return totals == null ? 0 : totals[0];
+        }
+
+        public long allocatedBytes(Phase phase) {
+            long[] totals = phases.get(phase);
+            return totals == null ? 0 : totals[1];
+        }
+
+        private void enter(Phase phase) {
+            if (depth == stack.length) {
+                throw new IllegalStateException("Phases nested too deeply in day " + day + " " + step);
+            }
+            charge();
+            stack[depth++] = phase;
+        }
+
+        private void exit() {
+            charge();
+            depth--;
+        }
+
+        /** Attribute everything since the last mark to the innermost open phase. */
+        private void charge() {
+            long nanos = System.nanoTime();
+            long bytes = threadAllocatedBytes();
+            if (depth > 0) {
+                long[] totals = phases.computeIfAbsent(stack[depth - 1], p -> new long[2]);
+                totals[0] += nanos - markNanos;
+                totals[1] += bytes - markBytes;
+            }
+            markNanos = nanos;
+            markBytes = bytes;
+        }
+
+        private void finish() {
+            for (Counter counter : COUNTERS.values()) {
+                long delta = counter.value() - countersAtStart.getOrDefault(counter.name, 0L);
+                if (delta != 0) {
+                    counters.put(counter.name, delta);
+                }
+            }
+        }
+    }
+
+    /**
+     * One row per value: {@code Day,Step,Metric,Value}, where the metric is
+     * {@code <phase>.nanos}, {@code <phase>.bytes} or {@code counter.<name>}.
+     */
+    public static String toCsv(List<Report> reports) {
+        StringBuilder csv = new StringBuilder("Day,Step,Metric,Value\n");
+        for (Report report : reports) {
+            String prefix = report.day + "," + report.step + ",";
+            for (Map.Entry<Phase, long[]> phase : report.phases.entrySet()) {
+                String label = phase.getKey().label();
+                csv.append(prefix).append(label).append(".nanos,").append(phase.getValue()[0]).append('\n');
+                csv.append(prefix).append(label).append(".bytes,").append(phase.getValue()[1]).append('\n');
+            }
+            for (Map.Entry<String, Long> counter : report.counters.entrySet()) {
+                csv.append(prefix).append("counter.").append(counter.getKey()).append(',').append(counter.getValue()).append('\n');
+            }
+        }
+        return csv.toString();
+    }
+
+    public static String toJson(List<Report> reports) {
+        List<String> objects = new ArrayList<>();
+        for (Report report : reports) {
+            List<String> phases = new ArrayList<>();
+            for (Map.Entry<Phase, long[]> phase : report.phases.entrySet()) {
+                phases.add(String.format("\"%s\": {\"nanos\": %d, \"bytes\": %d}",
+                        phase.getKey().label(), phase.getValue()[0], phase.getValue()[1]));
+            }
+            List<String> counters = new ArrayList<>();
+            for (Map.Entry<String, Long> counter : report.counters.entrySet()) {
+                counters.add(String.format("\"%s\": %d", counter.getKey(), counter.getValue()));
+            }
+            objects.add(String.format("  {\"day\": %d, \"step\": \"%s\", \"phases\": {%s}, \"counters\": {%s}}",
+                    report.day, report.step, String.join(", ", phases), String.join(", ", counters)));
+        }
+        return "[\n" + String.join(",\n", objects) + "\n]\n";
+    }
+}
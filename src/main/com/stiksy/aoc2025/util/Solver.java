@@ -0,0 +1,27 @@
+package com.stiksy.aoc2025.util;
+
+import java.util.List;
+
+/**
+ * A day's solution split into a parse stage and the two parts, so both parts can share
+ * one parsed model. {@code part1} and {@code part2} must not modify the model.
+ * Implementations need a public no-argument constructor.
+ *
+ * @param <P> the parsed form of the puzzle input
+ */
+public interface Solver<P> {
+
+    P parse(List<String> input);
+
+    long part1(P input);
+
+    long part2(P input);
+
+    default long solvePart1(List<String> input) {
+        return part1(parse(input));
+    }
+
+    default long solvePart2(List<String> input) {
+        return part2(parse(input));
+    }
+}
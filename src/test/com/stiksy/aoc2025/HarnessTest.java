@@ -0,0 +1,72 @@
+package com.stiksy.aoc2025;
+
+import com.stiksy.aoc2025.day01.Day01;
+import com.stiksy.aoc2025.util.InputReader;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+public class HarnessTest {
+
+    private static Harness.DayResult measureDay01() {
+        return Harness.measure(1, new Day01(), InputReader.readLines("day01/input.txt"), 2, 5);
+    }
+
+    @Test
+    public void testMeasure() {
+        Harness.DayResult result = measureDay01();
+
+        assertEquals(1145, result.part1);
+        assertEquals(6561, result.part2);
+        for (String step : Harness.STEPS) {
+            assertEquals(step, 5, result.histograms.get(step).count());
+        }
+        assertTrue(result.total().min() >= result.histograms.get("part2").min());
+    }
+
+    @Test
+    public void testCsvKeepsSchema() {
+        String[] lines = Harness.toCsv(List.of(measureDay01())).split("\n");
+
+        assertEquals("Day,Min(ms),Max(ms),Avg(ms),Median(ms),P95(ms),StdDev(ms),Part1_Answer,Part2_Answer", lines[0]);
+        String[] fields = lines[1].split(",");
+        assertEquals(9, fields.length);
+        assertEquals("1", fields[0]);
+        assertTrue(Double.parseDouble(fields[1]) <= Double.parseDouble(fields[4]));
+        assertEquals("1145", fields[7]);
+        assertEquals("6561", fields[8]);
+    }
+
+    @Test
+    public void testBaselineComparison() throws IOException {
+        Harness.DayResult result = measureDay01();
+        double median = result.total().valueAtPercentile(50) / 1e6;
+
+        Path file = Files.createTempFile("baseline", ".csv");
+        try {
+            Files.writeString(file, Harness.CSV_HEADER + "\n"
+                    + String.format("1,0,0,0,%f,0,0,1145,6561%n", median * 10));
+            Map<Integer, Harness.BaselineRow> faster = Harness.readBaseline(file);
+            assertTrue(Harness.compare(List.of(result), faster, 10).isEmpty());
+
+            Files.writeString(file, Harness.CSV_HEADER + "\n"
+                    + String.format("1,0,0,0,%f,0,0,1145,6561%n", median / 10));
+            List<String> slower = Harness.compare(List.of(result), Harness.readBaseline(file), 10);
+            assertEquals(1, slower.size());
+            assertTrue(slower.get(0).startsWith("REGRESSION Day 1: median"));
+
+            Files.writeString(file, Harness.CSV_HEADER + "\n"
+                    + String.format("1,0,0,0,%f,0,0,1145,42%n", median * 10));
+            List<String> wrong = Harness.compare(List.of(result), Harness.readBaseline(file), 10);
+            assertEquals(List.of("REGRESSION Day 1: answers 1145/6561, baseline 1145/42"), wrong);
+        } finally {
+            Files.delete(file);
+        }
+    }
+}
@@ -1,7 +1,12 @@
 package com.stiksy.aoc2025;
 
+import com.stiksy.aoc2025.util.Metrics;
 import org.junit.Test;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
 import static org.junit.Assert.*;
 
 public class MainTest {
@@ -9,4 +14,82 @@ public class MainTest {
     public void testConstant4() {
         assertEquals("constant function is 4", 4, Main.constant4());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testDiscoverAllDays() {
+        assertEquals(Runner.LAST_DAY, Runner.discover().size());
+    }
+
+    @Test
+    public void testParseTasks() {
+        Runner runner = new Runner(Runner.discover());
+
+        List<Runner.Task> tasks = Main.parseTasks(Arrays.asList("3", "5.2"), runner);
+
+        assertEquals(3, tasks.size());
+        assertEquals(3, tasks.get(0).day);
+        assertEquals(1, tasks.get(0).part);
+        assertEquals(2, tasks.get(1).part);
+        assertEquals(5, tasks.get(2).day);
+        assertEquals(2, tasks.get(2).part);
+
+        assertEquals(2 * Runner.LAST_DAY, Main.parseTasks(Collections.emptyList(), runner).size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testParseInvalidPart() {
+        Main.parseTasks(Arrays.asList("1.3"), new Runner(Runner.discover()));
+    }
+
+    @Test
+    public void testRunSequentialAndParallel() throws InterruptedException {
+        Runner runner = new Runner(Runner.discover());
+        List<Runner.Task> tasks = Main.parseTasks(Arrays.asList("1", "5"), runner);
+
+        for (int threads : new int[]{1, 4}) {
+            List<Runner.Result> results = runner.run(tasks, threads);
+
+            assertEquals(4, results.size());
+            assertEquals(1145, results.get(0).answer);
+            assertEquals(6561, results.get(1).answer);
+            assertEquals(694, results.get(2).answer);
+            assertEquals(352716206375547L, results.get(3).answer);
+            assertTrue(results.get(0).nanos > 0);
+        }
+    }
+
+    @Test
+    public void testParseOncePerDay() throws InterruptedException {
+        Runner runner = new Runner(Runner.discover());
+
+        runner.run(Main.parseTasks(Arrays.asList("8.1", "8.2", "9"), runner), 1);
+
+        assertEquals(Arrays.asList(8, 9), List.copyOf(runner.parseNanos().keySet()));
+        long parsed = runner.parseNanos().get(8);
+
+        List<Runner.Result> results = runner.run(Main.parseTasks(Arrays.asList("8"), runner), 2);
+
+        assertEquals(96672, results.get(0).answer);
+        assertEquals(22517595, results.get(1).answer);
+        assertEquals("model is reused across runs", parsed, (long) runner.parseNanos().get(8));
+    }
+
+    @Test
+    public void testMetricsReports() throws InterruptedException {
+        Runner runner = new Runner(Runner.discover());
+        Metrics.setEnabled(true);
+        try {
+            runner.run(Main.parseTasks(Arrays.asList("8.1"), runner), 1);
+        } finally {
+            Metrics.setEnabled(false);
+        }
+
+        List<Metrics.Report> reports = runner.reports();
+        assertEquals(2, reports.size());
+        assertEquals("parse", reports.get(0).step());
+        assertTrue(reports.get(0).nanos(Metrics.Phase.BUILD) > 0);
+        assertTrue(reports.get(0).allocatedBytes(Metrics.Phase.BUILD) > 0);
+        assertEquals("part1", reports.get(1).step());
+        assertEquals(Long.valueOf(1000), reports.get(1).counters().get("day08.edgePolls"));
+    }
+}
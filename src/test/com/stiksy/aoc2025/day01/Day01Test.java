@@ -1,10 +1,15 @@
 package com.stiksy.aoc2025.day01;
 
 import com.stiksy.aoc2025.util.InputReader;
+import com.stiksy.aoc2025.util.LineCursor;
+import com.stiksy.aoc2025.util.MappedInput;
 import org.junit.Test;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.SplittableRandom;
 
 import static org.junit.Assert.*;
 
@@ -67,4 +72,106 @@ public class Day01Test {
         long result = solution.solvePart2(input);
         assertEquals(6561, result);
     }
+
+    @Test
+    public void testMappedInputActual() {
+        Day01 solution = new Day01();
+        MappedInput input = MappedInput.ofResource("day01/input.txt");
+
+        assertEquals(1145, solution.solvePart1(input));
+        assertEquals(6561, solution.solvePart2(input));
+    }
+
+    @Test
+    public void testStreamingActual() {
+        Day01 solution = new Day01();
+
+        try (LineCursor input = LineCursor.ofResource("day01/input.txt")) {
+            assertEquals(1145, solution.solvePart1(input));
+        }
+        try (LineCursor input = LineCursor.ofResource("day01/input.txt")) {
+            assertEquals(6561, solution.solvePart2(input));
+        }
+    }
+
+    @Test
+    public void testBatchActual() {
+        int[] deltas = Day01.decode(MappedInput.ofResource("day01/input.txt"));
+
+        assertEquals(1145, Day01.countZeroLandings(deltas));
+        assertEquals(6561, Day01.countZeroPasses(deltas));
+    }
+
+    @Test
+    public void testDecode() {
+        byte[] bytes = "L68\r\nR48\n\nL5\nR1000".getBytes(StandardCharsets.US_ASCII);
+
+        assertArrayEquals(new int[]{-68, 48, -5, 1000}, Day01.decode(bytes));
+        assertArrayEquals(new int[0], Day01.decode(new byte[0]));
+    }
+
+    @Test
+    public void testBatchMatchesClickByClick() {
+        Day01 solution = new Day01();
+        SplittableRandom random = new SplittableRandom(1);
+
+        for (int round = 0; round < 200; round++) {
+            List<String> rotations = new ArrayList<>();
+            int[] deltas = new int[50];
+            for (int i = 0; i < deltas.length; i++) {
+                // Small turns, exact multiples of 100 and long ones, with and without landing on 0
+                int distance = switch (random.nextInt(4)) {
+                    case 0 -> random.nextInt(100);
+                    case 1 -> 100 * random.nextInt(4);
+                    case 2 -> random.nextInt(1000);
+                    default -> random.nextInt(100_000);
+                };
+                boolean left = random.nextBoolean();
+                rotations.add((left ? "L" : "R") + distance);
+                deltas[i] = left ? -distance : distance;
+            }
+
+            long[] expected = clickByClick(deltas);
+            assertEquals(expected[0], Day01.countZeroLandings(deltas));
+            assertEquals(expected[1], Day01.countZeroPasses(deltas));
+            assertEquals(expected[0], solution.solvePart1(rotations));
+            assertEquals(expected[1], solution.solvePart2(rotations));
+        }
+    }
+
+    @Test
+    public void testParallelMatchesSerial() {
+        int[] actual = Day01.decode(MappedInput.ofResource("day01/input.txt"));
+        assertEquals(1145, Day01.countZeroLandings(actual, 4));
+        assertEquals(6561, Day01.countZeroPasses(actual, 4));
+
+        // Enough rotations for many chunks, each starting away from 50
+        SplittableRandom random = new SplittableRandom(15);
+        int[] deltas = random.ints(500_000, -1000, 1000).toArray();
+        for (int parallelism : new int[]{1, 3, 8}) {
+            assertEquals(Day01.countZeroLandings(deltas), Day01.countZeroLandings(deltas, parallelism));
+            assertEquals(Day01.countZeroPasses(deltas), Day01.countZeroPasses(deltas, parallelism));
+        }
+        assertEquals(0, Day01.countZeroPasses(new int[0], 2));
+    }
+
+    /** Oracle: turn the dial one click at a time, returning {landings on 0, clicks on 0}. */
+    private static long[] clickByClick(int[] deltas) {
+        int position = 50;
+        long landings = 0;
+        long clicks = 0;
+        for (int delta : deltas) {
+            int step = delta < 0 ? 99 : 1;
+            for (int i = 0; i < Math.abs(delta); i++) {
+                position = (position + step) % 100;
+                if (position == 0) {
+                    clicks++;
+                }
+            }
+            if (position == 0) {
+                landings++;
+            }
+        }
+        return new long[]{landings, clicks};
+    }
 }
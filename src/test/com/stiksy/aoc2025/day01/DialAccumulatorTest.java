@@ -0,0 +1,149 @@
+package com.stiksy.aoc2025.day01;
+
+import com.stiksy.aoc2025.util.InputReader;
+import com.stiksy.aoc2025.util.LineCursor;
+import com.stiksy.aoc2025.util.MappedInput;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class DialAccumulatorTest {
+
+    private static final List<String> EXAMPLE = Arrays.asList(
+        "L68", "L30", "R48", "L5", "R60", "L55", "L1", "L99", "R14", "L82"
+    );
+
+    @Test
+    public void testExampleOneAtATime() {
+        DialAccumulator accumulator = new DialAccumulator();
+        for (String rotation : EXAMPLE) {
+            accumulator.accept(rotation.charAt(0), Integer.parseInt(rotation.substring(1)));
+        }
+
+        assertEquals(3, accumulator.zeroLandings());
+        assertEquals(6, accumulator.zeroPasses());
+        assertEquals(32, accumulator.position());
+        assertEquals(10, accumulator.rotations());
+    }
+
+    @Test
+    public void testBytesAndDeltasAgree() {
+        DialAccumulator fromBytes = new DialAccumulator();
+        for (String rotation : EXAMPLE) {
+            byte[] bytes = (" " + rotation + "\n").getBytes(StandardCharsets.US_ASCII);
+            fromBytes.accept(bytes, 1, bytes.length - 1);
+        }
+
+        DialAccumulator fromDeltas = new DialAccumulator();
+        int[] deltas = Day01.decode(String.join("\n", EXAMPLE).getBytes(StandardCharsets.US_ASCII));
+        fromDeltas.acceptAll(deltas, 0, 4);
+        for (int i = 4; i < 7; i++) {
+            fromDeltas.accept(deltas[i]);
+        }
+        fromDeltas.acceptAll(Arrays.copyOfRange(deltas, 7, deltas.length));
+
+        for (DialAccumulator accumulator : List.of(fromBytes, fromDeltas)) {
+            assertEquals(3, accumulator.zeroLandings());
+            assertEquals(6, accumulator.zeroPasses());
+            assertEquals(32, accumulator.position());
+        }
+    }
+
+    @Test
+    public void testEmptyRecordIsIgnored() {
+        DialAccumulator accumulator = new DialAccumulator();
+        byte[] bytes = "L68".getBytes(StandardCharsets.US_ASCII);
+        accumulator.accept(bytes, 0, 0);
+        accumulator.accept(bytes, 3, 3);
+
+        assertEquals(50, accumulator.position());
+        assertEquals(0, accumulator.rotations());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRecordWithoutDistance() {
+        byte[] bytes = "L68".getBytes(StandardCharsets.US_ASCII);
+        new DialAccumulator().accept(bytes, 0, 1);
+    }
+
+    @Test
+    public void testActualInBatches() {
+        int[] deltas = Day01.decode(MappedInput.ofResource("day01/input.txt"));
+        DialAccumulator accumulator = new DialAccumulator();
+        for (int from = 0; from < deltas.length; from += 333) {
+            accumulator.acceptAll(deltas, from, Math.min(deltas.length, from + 333));
+
+            // Queries match a full re-run of the history so far
+            int[] prefix = Arrays.copyOf(deltas, Math.min(deltas.length, from + 333));
+            assertEquals(Day01.countZeroLandings(prefix), accumulator.zeroLandings());
+            assertEquals(Day01.countZeroPasses(prefix), accumulator.zeroPasses());
+        }
+
+        assertEquals(1145, accumulator.zeroLandings());
+        assertEquals(6561, accumulator.zeroPasses());
+        assertEquals(InputReader.readLines("day01/input.txt").size(), accumulator.rotations());
+    }
+
+    @Test
+    public void testLineCursor() {
+        DialAccumulator accumulator = new DialAccumulator();
+        try (LineCursor input = LineCursor.ofResource("day01/input.txt")) {
+            accumulator.acceptAll(input);
+        }
+
+        assertEquals(1145, accumulator.zeroLandings());
+        assertEquals(6561, accumulator.zeroPasses());
+    }
+
+    @Test
+    public void testSnapshotRestore() {
+        DialAccumulator accumulator = new DialAccumulator();
+        accumulator.accept('L', 68);
+        accumulator.accept('L', 30);
+        DialAccumulator.Snapshot snapshot = accumulator.snapshot();
+
+        accumulator.accept('R', 48);
+        assertEquals(0, accumulator.position());
+        accumulator.restore(snapshot);
+
+        assertEquals(52, accumulator.position());
+        assertEquals(2, accumulator.rotations());
+        assertEquals(0, accumulator.zeroLandings());
+        assertEquals(1, accumulator.zeroPasses());
+    }
+
+    @Test
+    public void testCheckpointResume() throws IOException {
+        DialAccumulator accumulator = new DialAccumulator();
+        for (String rotation : EXAMPLE.subList(0, 5)) {
+            accumulator.accept(rotation.charAt(0), Integer.parseInt(rotation.substring(1)));
+        }
+
+        ByteArrayOutputStream checkpoint = new ByteArrayOutputStream();
+        accumulator.writeTo(new DataOutputStream(checkpoint));
+        DialAccumulator resumed = DialAccumulator.readFrom(
+            new DataInputStream(new ByteArrayInputStream(checkpoint.toByteArray())));
+        for (String rotation : EXAMPLE.subList(5, EXAMPLE.size())) {
+            resumed.accept(rotation.charAt(0), Integer.parseInt(rotation.substring(1)));
+        }
+
+        assertEquals(3, resumed.zeroLandings());
+        assertEquals(6, resumed.zeroPasses());
+        assertEquals(10, resumed.rotations());
+    }
+
+    @Test(expected = IOException.class)
+    public void testReadRejectsOtherData() throws IOException {
+        byte[] bytes = "not a checkpoint at all".getBytes(StandardCharsets.US_ASCII);
+        DialAccumulator.readFrom(new DataInputStream(new ByteArrayInputStream(bytes)));
+    }
+}
@@ -1,10 +1,13 @@
 package com.stiksy.aoc2025.day02;
 
 import com.stiksy.aoc2025.util.InputReader;
+import com.stiksy.aoc2025.util.LineCursor;
+import com.stiksy.aoc2025.util.MappedInput;
 import org.junit.Test;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.SplittableRandom;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
@@ -110,4 +113,121 @@ public class Day02Test {
         long result = solution.solvePart2(input);
         assertEquals(70187097315L, result);
     }
+
+    @Test
+    public void testMappedInputActual() {
+        Day02 solution = new Day02();
+        MappedInput input = MappedInput.ofResource("day02/input.txt");
+
+        assertEquals(54234399924L, solution.solvePart1(input));
+        assertEquals(70187097315L, solution.solvePart2(input));
+    }
+
+    @Test
+    public void testStreamingActual() {
+        Day02 solution = new Day02();
+
+        try (LineCursor input = LineCursor.ofResource("day02/input.txt")) {
+            assertEquals(54234399924L, solution.solvePart1(input));
+        }
+        // Splitting on commas keeps only one range in memory at a time
+        try (LineCursor input = LineCursor.ofResource("day02/input.txt", (byte) ',')) {
+            assertEquals(70187097315L, solution.solvePart2(input));
+        }
+    }
+
+    @Test
+    public void testClosedFormMatchesScanOnExample() {
+        Day02 solution = new Day02();
+        List<long[]> ranges = solution.parse(Arrays.asList(
+            "11-22,95-115,998-1012,1188511880-1188511890,222220-222224,",
+            "1698522-1698528,446443-446449,38593856-38593862,565653-565659,",
+            "824824821-824824827,2121212118-2121212124"
+        ));
+
+        for (long[] range : ranges) {
+            assertEquals(Day02.scanInvalidIds(range[0], range[1], false), solution.sumInvalidIds(range[0], range[1], false));
+            assertEquals(Day02.scanInvalidIds(range[0], range[1], true), solution.sumInvalidIds(range[0], range[1], true));
+        }
+    }
+
+    @Test
+    public void testClosedFormMatchesScanAcrossDigitLengths() {
+        Day02 solution = new Day02();
+
+        // One range spanning 1 to 7 digits, where 6-digit IDs repeat patterns of length 1, 2 and 3
+        assertEquals(Day02.scanInvalidIds(1, 2_000_000, false), solution.sumInvalidIds(1, 2_000_000, false));
+        assertEquals(Day02.scanInvalidIds(1, 2_000_000, true), solution.sumInvalidIds(1, 2_000_000, true));
+
+        SplittableRandom random = new SplittableRandom(2);
+        for (int i = 0; i < 500; i++) {
+            long start = random.nextLong(1, 10_000_000_000L);
+            long end = start + random.nextLong(20_000);
+            assertEquals(Day02.scanInvalidIds(start, end, false), solution.sumInvalidIds(start, end, false));
+            assertEquals(Day02.scanInvalidIds(start, end, true), solution.sumInvalidIds(start, end, true));
+        }
+    }
+
+    @Test
+    public void testClosedFormNearLongMax() {
+        Day02 solution = new Day02();
+
+        // 18 and 19 digits: 999999999999999999 repeats "9" and 1111111111111111111 repeats "1"
+        // The scan's id <= end loop cannot stop at Long.MAX_VALUE itself
+        long end = Long.MAX_VALUE - 1;
+        long start = end - 5_000;
+        assertEquals(Day02.scanInvalidIds(start, end, true), solution.sumInvalidIds(start, end, true));
+        assertEquals(999_999_999_999_999_999L, solution.sumInvalidIds(999_999_999_999_999_990L, 999_999_999_999_999_999L, true));
+        assertEquals(1_111_111_111_111_111_111L, solution.sumInvalidIds(1_111_111_111_111_111_100L, 1_111_111_111_111_111_200L, true));
+        assertEquals(0, solution.sumInvalidIds(1_111_111_111_111_111_100L, 1_111_111_111_111_111_200L, false));
+    }
+
+    @Test
+    public void testArithmeticChecksMatchStrings() {
+        Day02 solution = new Day02();
+
+        // Every ID up to 7 digits, plus random IDs and repetitions of every length up to 19
+        for (long id = 0; id < 2_000_000; id++) {
+            assertEquals(solution.isInvalidId(id), Day02.repeatsTwice(id));
+            assertEquals(solution.isInvalidIdPart2(id), Day02.repeatsAtLeastTwice(id));
+        }
+        SplittableRandom random = new SplittableRandom(12);
+        for (int i = 0; i < 100_000; i++) {
+            long id = random.nextLong(Long.MAX_VALUE);
+            assertEquals(solution.isInvalidId(id), Day02.repeatsTwice(id));
+            assertEquals(solution.isInvalidIdPart2(id), Day02.repeatsAtLeastTwice(id));
+        }
+        for (int length = 2; length <= 19; length++) {
+            for (int patternLength = 1; patternLength < length; patternLength++) {
+                if (length % patternLength != 0) continue;
+                String repeated = "8".repeat(patternLength - 1).concat("1").repeat(length / patternLength);
+                long id = Long.parseLong(repeated);
+                assertEquals(solution.isInvalidId(id), Day02.repeatsTwice(id));
+                assertTrue(Day02.repeatsAtLeastTwice(id));
+            }
+        }
+        assertEquals(19, Day02.digitCount(Long.MAX_VALUE));
+        assertFalse(Day02.repeatsAtLeastTwice(Long.MAX_VALUE));
+    }
+
+    @Test
+    public void testParallelScanActual() {
+        Day02 solution = new Day02();
+        List<long[]> ranges = solution.parse(InputReader.readLines("day02/input.txt"));
+
+        for (int parallelism : new int[]{1, 4}) {
+            assertEquals(54234399924L, Day02.scanInvalidIds(ranges, false, parallelism));
+            assertEquals(70187097315L, Day02.scanInvalidIds(ranges, true, parallelism));
+        }
+    }
+
+    @Test
+    public void testParallelScanSplitsWideRange() {
+        Day02 solution = new Day02();
+
+        // Many times SCAN_CHUNK wide, next to a tiny range and an empty list
+        List<long[]> ranges = Arrays.asList(new long[]{95, 115}, new long[]{1, 3_000_000});
+        assertEquals(solution.sumInvalidIds(1, 3_000_000, true) + 99 + 111, Day02.scanInvalidIds(ranges, true, 3));
+        assertEquals(0, Day02.scanInvalidIds(List.of(), false, 2));
+    }
 }
@@ -0,0 +1,86 @@
+package com.stiksy.aoc2025.day03;
+
+import com.stiksy.aoc2025.util.InputReader;
+import org.junit.Test;
+
+import java.math.BigInteger;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.Assert.*;
+
+public class BankIndexTest {
+
+    @Test
+    public void testExampleBanks() {
+        assertEquals(98, new BankIndex("987654321111111").maxNumber(2));
+        assertEquals(89, new BankIndex("811111111111119").maxNumber(2));
+        assertEquals(434234234278L, new BankIndex("234234234234278").maxNumber(12));
+        assertEquals(888911112111L, new BankIndex("818181911112111").maxNumber(12));
+    }
+
+    @Test
+    public void testLeftmostMax() {
+        BankIndex index = new BankIndex("3919283");
+
+        assertEquals(1, index.leftmostMax(0, 7));
+        assertEquals(3, index.leftmostMax(2, 7));
+        assertEquals(5, index.leftmostMax(4, 7));
+        assertEquals(6, index.leftmostMax(6, 7));
+        assertEquals(0, index.leftmostMax(0, 1));
+    }
+
+    @Test
+    public void testMatchesSelectorOnAllWindows() {
+        SplittableRandom random = new SplittableRandom(18);
+
+        for (int round = 0; round < 100; round++) {
+            StringBuilder bank = new StringBuilder();
+            int length = 1 + random.nextInt(30);
+            for (int i = 0; i < length; i++) {
+                bank.append((char) ('1' + random.nextInt(random.nextBoolean() ? 9 : 3)));
+            }
+            BankIndex index = new BankIndex(bank);
+
+            for (int from = 0; from < length; from++) {
+                for (int to = from + 1; to <= length; to++) {
+                    CharSequence window = bank.subSequence(from, to);
+                    for (int k = 1; k <= Math.min(to - from + 1, 18); k++) {
+                        assertEquals(Day03.maxSubsequenceNumber(window, k), index.maxNumber(from, to, k));
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testActualBanks() {
+        List<String> banks = InputReader.readLines("day03/input.txt");
+        long part1 = 0;
+        long part2 = 0;
+        for (String bank : banks) {
+            BankIndex index = new BankIndex(bank);
+            part1 += index.maxNumber(2);
+            part2 += index.maxNumber(12);
+            assertEquals(Day03.maxSubsequenceBigInteger(bank, 50), index.maxBigNumber(0, bank.length(), 50));
+        }
+
+        assertEquals(17330, part1);
+        assertEquals(171518260283767L, part2);
+    }
+
+    @Test
+    public void testShortWindows() {
+        BankIndex index = new BankIndex("12345");
+
+        assertEquals(0, index.maxNumber(1, 3, 3));
+        assertEquals(BigInteger.ZERO, index.maxBigNumber(0, 5, 6));
+        assertArrayEquals(new int[]{3, 4}, index.select(0, 5, 2));
+        assertEquals(0, new BankIndex("").maxNumber(1));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testEmptyWindowRejected() {
+        new BankIndex("12345").leftmostMax(2, 2);
+    }
+}
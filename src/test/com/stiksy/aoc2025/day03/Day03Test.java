@@ -1,10 +1,16 @@
 package com.stiksy.aoc2025.day03;
 
 import com.stiksy.aoc2025.util.InputReader;
+import com.stiksy.aoc2025.util.LineCursor;
+import com.stiksy.aoc2025.util.MappedInput;
 import org.junit.Test;
 
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.SplittableRandom;
 
 import static org.junit.Assert.*;
 
@@ -91,4 +97,130 @@ public class Day03Test {
         long result = solution.solvePart2(input);
         assertEquals(171518260283767L, result);
     }
+
+    @Test
+    public void testMappedInputActual() {
+        Day03 solution = new Day03();
+        MappedInput input = MappedInput.ofResource("day03/input.txt");
+
+        assertEquals(17330, solution.solvePart1(input));
+        assertEquals(171518260283767L, solution.solvePart2(input));
+    }
+
+    @Test
+    public void testStreamingActual() {
+        Day03 solution = new Day03();
+
+        try (LineCursor input = LineCursor.ofResource("day03/input.txt")) {
+            assertEquals(17330, solution.solvePart1(input));
+        }
+        try (LineCursor input = LineCursor.ofResource("day03/input.txt")) {
+            assertEquals(171518260283767L, solution.solvePart2(input));
+        }
+    }
+
+    @Test
+    public void testMaxSubsequenceNumberMatchesGreedyScan() {
+        SplittableRandom random = new SplittableRandom(3);
+
+        for (int round = 0; round < 2000; round++) {
+            StringBuilder bank = new StringBuilder();
+            int length = 1 + random.nextInt(40);
+            for (int i = 0; i < length; i++) {
+                bank.append((char) ('1' + random.nextInt(random.nextBoolean() ? 9 : 2)));
+            }
+            for (int k = 1; k <= Math.min(length, 18); k++) {
+                String expected = greedyMaxSubsequence(bank, k);
+                assertEquals(Long.parseLong(expected), Day03.maxSubsequenceNumber(bank, k));
+                assertEquals(new BigInteger(expected), Day03.maxSubsequenceBigInteger(bank, k));
+            }
+        }
+    }
+
+    @Test
+    public void testMaxSubsequenceNumberEdgeCases() {
+        assertEquals(0, Day03.maxSubsequenceNumber("98765", 6));
+        assertEquals(BigInteger.ZERO, Day03.maxSubsequenceBigInteger("98765", 6));
+        assertEquals(98765, Day03.maxSubsequenceNumber("98765", 5));
+        assertEquals(999_999_999_999_999_999L, Day03.maxSubsequenceNumber("9".repeat(30), 18));
+
+        // Beyond a long, e.g. k = 40 on a 100-digit bank
+        String bank = InputReader.readLines("day03/input.txt").get(0);
+        assertEquals(new BigInteger(greedyMaxSubsequence(bank, 40)), Day03.maxSubsequenceBigInteger(bank, 40));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMaxSubsequenceNumberRejectsTooManyDigits() {
+        Day03.maxSubsequenceNumber("9".repeat(30), 19);
+    }
+
+    @Test
+    public void testParallelActual() {
+        Day03 solution = new Day03();
+        MappedInput input = MappedInput.ofResource("day03/input.txt");
+
+        for (int parallelism : new int[]{1, 4}) {
+            assertEquals(17330, solution.solvePart1(input, parallelism));
+            assertEquals(171518260283767L, solution.solvePart2(input, parallelism));
+        }
+    }
+
+    @Test
+    public void testSegmentSumMatchesLines() {
+        byte[] bytes = "987654321111111\r\n\n811111111111119\n234234234234278".getBytes(StandardCharsets.US_ASCII);
+        MappedInput input = MappedInput.wrap(bytes);
+
+        assertEquals(98 + 89 + 78, Day03.sumMaxJoltage(input.buffer(), 0, bytes.length, 2));
+        // One bank on its own, then cut before its last digit
+        assertEquals(89, Day03.sumMaxJoltage(input.buffer(), 18, 33, 2));
+        assertEquals(81, Day03.sumMaxJoltage(input.buffer(), 18, 32, 2));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSegmentSumRejectsTooManyDigits() {
+        byte[] bytes = "9".repeat(30).getBytes(StandardCharsets.US_ASCII);
+        Day03.sumMaxJoltage(MappedInput.wrap(bytes).buffer(), 0, bytes.length, 19);
+    }
+
+    @Test
+    public void testParallelSplitsOnLineBreaks() {
+        Day03 solution = new Day03();
+        SplittableRandom random = new SplittableRandom(19);
+
+        // Several segments' worth of banks of varying length, with CRLF endings and blank lines
+        List<String> banks = new ArrayList<>();
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 20_000; i++) {
+            StringBuilder bank = new StringBuilder();
+            int length = random.nextInt(120);
+            for (int j = 0; j < length; j++) {
+                bank.append((char) ('1' + random.nextInt(9)));
+            }
+            banks.add(bank.toString());
+            text.append(bank).append(i % 7 == 0 ? "\r\n" : "\n");
+        }
+        MappedInput input = MappedInput.wrap(text.toString().getBytes(StandardCharsets.US_ASCII));
+
+        for (int parallelism : new int[]{2, 8}) {
+            assertEquals(solution.solvePart1(banks), solution.solvePart1(input, parallelism));
+            assertEquals(solution.solvePart2(banks), solution.solvePart2(input, parallelism));
+        }
+    }
+
+    /** Oracle: for each pick, the leftmost largest digit that leaves enough digits after it. */
+    private static String greedyMaxSubsequence(CharSequence bank, int k) {
+        StringBuilder result = new StringBuilder();
+        int start = 0;
+        for (int pick = 0; pick < k; pick++) {
+            int best = start;
+            for (int j = start; j <= bank.length() - (k - pick); j++) {
+                if (bank.charAt(j) > bank.charAt(best)) {
+                    best = j;
+                }
+            }
+            result.append(bank.charAt(best));
+            start = best + 1;
+        }
+        return result.toString();
+    }
 }
@@ -0,0 +1,142 @@
+package com.stiksy.aoc2025.day04;
+
+import com.stiksy.aoc2025.util.InputReader;
+import com.stiksy.aoc2025.util.MappedInput;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.Assert.*;
+
+public class BitGridTest {
+
+    @Test
+    public void testExample() {
+        List<String> input = Arrays.asList(
+            "..@@.@@@@.",
+            "@@@.@.@.@@",
+            "@@@@@.@.@@",
+            "@.@@@@..@.",
+            "@@.@@@@.@@",
+            ".@@@@@@@.@",
+            ".@.@.@.@@@",
+            "@.@@@.@@@@",
+            ".@@@@@@@@.",
+            "@.@.@@@.@."
+        );
+
+        assertEquals(13, BitGrid.of(input).countAccessible());
+        assertEquals(71, BitGrid.of(input).count());
+    }
+
+    @Test
+    public void testActual() {
+        assertEquals(1553, BitGrid.of(InputReader.readLines("day04/input.txt")).countAccessible());
+        assertEquals(1553, BitGrid.of(MappedInput.ofResource("day04/input.txt")).countAccessible());
+    }
+
+    @Test
+    public void testMatchesCellByCellAcrossWordBoundaries() {
+        SplittableRandom random = new SplittableRandom(20);
+
+        for (int cols : new int[]{1, 2, 63, 64, 65, 127, 128, 130, 200}) {
+            for (int round = 0; round < 10; round++) {
+                int rows = 1 + random.nextInt(12);
+                double density = random.nextDouble();
+                List<String> input = new ArrayList<>();
+                for (int row = 0; row < rows; row++) {
+                    StringBuilder line = new StringBuilder();
+                    for (int col = 0; col < cols; col++) {
+                        line.append(random.nextDouble() < density ? '@' : '.');
+                    }
+                    input.add(line.toString());
+                }
+
+                long expected = countAccessible(input);
+                assertEquals(expected, BitGrid.of(input).countAccessible());
+                byte[] bytes = String.join("\n", input).getBytes(StandardCharsets.US_ASCII);
+                assertEquals(expected, BitGrid.of(MappedInput.wrap(bytes)).countAccessible());
+            }
+        }
+    }
+
+    @Test
+    public void testBandedRemovalMatchesPeeling() {
+        Day04 solution = new Day04();
+        SplittableRandom random = new SplittableRandom(22);
+
+        for (int round = 0; round < 40; round++) {
+            int rows = 1 + random.nextInt(50);
+            int cols = 1 + random.nextInt(150);
+            double density = 0.4 + random.nextDouble() * 0.5;
+            List<String> input = new ArrayList<>();
+            for (int row = 0; row < rows; row++) {
+                StringBuilder line = new StringBuilder();
+                for (int col = 0; col < cols; col++) {
+                    line.append(random.nextDouble() < density ? '@' : '.');
+                }
+                input.add(line.toString());
+            }
+
+            long expected = solution.solvePart2(input);
+            for (int parallelism : new int[]{1, 3, 8}) {
+                BitGrid grid = BitGrid.of(input);
+                long rolls = grid.count();
+                assertEquals(expected, grid.removeAccessibleRolls(parallelism));
+                assertEquals(rolls - expected, grid.count());
+                assertEquals(0, grid.countAccessible());
+            }
+        }
+    }
+
+    @Test
+    public void testBandedRemovalActual() {
+        Day04 solution = new Day04();
+
+        assertEquals(8442, solution.solvePart2(InputReader.readLines("day04/input.txt"), 4));
+        assertEquals(8442, solution.solvePart2(MappedInput.ofResource("day04/input.txt"), 2));
+    }
+
+    @Test
+    public void testSetAndClear() {
+        BitGrid grid = new BitGrid(2, 70);
+        grid.set(1, 63);
+        grid.set(1, 64);
+        assertTrue(grid.get(1, 63));
+        assertTrue(grid.get(1, 64));
+        assertFalse(grid.get(0, 64));
+
+        grid.clear(1, 63);
+        assertFalse(grid.get(1, 63));
+        assertEquals(1, grid.count());
+    }
+
+    /** Oracle: count the neighbours of every roll one by one. */
+    private static long countAccessible(List<String> grid) {
+        long accessible = 0;
+        for (int row = 0; row < grid.size(); row++) {
+            for (int col = 0; col < grid.get(row).length(); col++) {
+                if (grid.get(row).charAt(col) != '@') {
+                    continue;
+                }
+                int neighbours = 0;
+                for (int r = row - 1; r <= row + 1; r++) {
+                    for (int c = col - 1; c <= col + 1; c++) {
+                        if ((r != row || c != col) && r >= 0 && r < grid.size() && c >= 0
+                                && c < grid.get(r).length() && grid.get(r).charAt(c) == '@') {
+                            neighbours++;
+                        }
+                    }
+                }
+                if (neighbours < 4) {
+                    accessible++;
+                }
+            }
+        }
+        return accessible;
+    }
+}
@@ -1,10 +1,16 @@
 package com.stiksy.aoc2025.day04;
 
 import com.stiksy.aoc2025.util.InputReader;
+import com.stiksy.aoc2025.util.LineCursor;
+import com.stiksy.aoc2025.util.MappedInput;
 import org.junit.Test;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.SplittableRandom;
 
 import static org.junit.Assert.*;
 
@@ -67,4 +73,80 @@ public class Day04Test {
         long result = solution.solvePart2(input);
         assertEquals(8442, result);
     }
+
+    @Test
+    public void testMappedInputActual() {
+        Day04 solution = new Day04();
+        MappedInput input = MappedInput.ofResource("day04/input.txt");
+
+        assertEquals(1553, solution.solvePart1(input));
+        assertEquals(8442, solution.solvePart2(input));
+    }
+
+    @Test
+    public void testPeelingMatchesRounds() {
+        Day04 solution = new Day04();
+        SplittableRandom random = new SplittableRandom(21);
+
+        for (int round = 0; round < 50; round++) {
+            int rows = 1 + random.nextInt(40);
+            int cols = 1 + random.nextInt(40);
+            double density = random.nextDouble();
+            List<String> input = new ArrayList<>();
+            for (int row = 0; row < rows; row++) {
+                StringBuilder line = new StringBuilder();
+                for (int col = 0; col < cols; col++) {
+                    line.append(random.nextDouble() < density ? '@' : '.');
+                }
+                input.add(line.toString());
+            }
+
+            assertEquals(solution.removeByRounds(input), solution.solvePart2(input));
+        }
+
+        assertEquals(8442, solution.removeByRounds(InputReader.readLines("day04/input.txt")));
+    }
+
+    @Test
+    public void testStreamingActual() {
+        Day04 solution = new Day04();
+
+        try (LineCursor input = LineCursor.ofResource("day04/input.txt")) {
+            assertEquals(1553, solution.solvePart1(input));
+        }
+    }
+
+    @Test
+    public void testStreamingSmallGrids() {
+        Day04 solution = new Day04();
+        SplittableRandom random = new SplittableRandom(23);
+
+        for (int rows = 0; rows <= 5; rows++) {
+            for (int cols : new int[]{1, 3, 64, 70}) {
+                List<String> input = new ArrayList<>();
+                for (int row = 0; row < rows; row++) {
+                    StringBuilder line = new StringBuilder();
+                    for (int col = 0; col < cols; col++) {
+                        line.append(random.nextInt(3) == 0 ? '.' : '@');
+                    }
+                    input.add(line.toString());
+                }
+                byte[] bytes = (String.join("\n", input) + "\n").getBytes(StandardCharsets.US_ASCII);
+
+                try (LineCursor cursor = LineCursor.of(new ByteArrayInputStream(bytes))) {
+                    long expected = rows == 0 ? 0 : solution.solvePart1(input);
+                    assertEquals(expected, solution.solvePart1(cursor));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testPaddedCells() {
+        assertEquals(9, Day04.paddedCells(1, 1));
+        assertEquals(4, Day04.paddedCells(0, 0));
+        assertEquals(46_002L * 46_002, Day04.paddedCells(46_000, 46_000));
+        assertEquals(-1, Day04.paddedCells(50_000, 50_000));
+        assertEquals(-1, Day04.paddedCells(100_000, 100_000));
+    }
 }
@@ -1,10 +1,14 @@
 package com.stiksy.aoc2025.day05;
 
 import com.stiksy.aoc2025.util.InputReader;
+import com.stiksy.aoc2025.util.LineCursor;
+import com.stiksy.aoc2025.util.MappedInput;
 import org.junit.Test;
 
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.List;
+import java.util.SplittableRandom;
 
 import static org.junit.Assert.*;
 
@@ -69,4 +73,75 @@ public class Day05Test {
         long result = solution.solvePart2(input);
         assertEquals(352716206375547L, result);
     }
+
+    @Test
+    public void testMappedInputActual() {
+        Day05 solution = new Day05();
+        MappedInput input = MappedInput.ofResource("day05/input.txt");
+
+        assertEquals(694, solution.solvePart1(input));
+        assertEquals(352716206375547L, solution.solvePart2(input));
+    }
+
+    @Test
+    public void testStreamingActual() {
+        Day05 solution = new Day05();
+
+        try (LineCursor input = LineCursor.ofResource("day05/input.txt")) {
+            assertEquals(694, solution.solvePart1(input));
+        }
+    }
+
+    @Test
+    public void testCountFreshExample() {
+        IntervalIndex index = IntervalIndex.of(new long[]{3, 10, 16, 12}, new long[]{5, 14, 20, 18});
+        long[] ids = {32, 17, 1, 11, 8, 5};
+        BitSet fresh = new BitSet();
+
+        assertEquals(3, Day05.countFresh(index, ids, fresh));
+        assertArrayEquals(new long[]{32, 17, 1, 11, 8, 5}, ids);
+        assertEquals("{1, 3, 5}", fresh.toString());
+        assertEquals(3, Day05.countFresh(index, ids, null));
+        assertArrayEquals(new long[]{32, 17, 1, 11, 8, 5}, ids);
+    }
+
+    @Test
+    public void testSortedOrder() {
+        long[] ids = {5, -3, Long.MAX_VALUE, 0, Long.MIN_VALUE, 5, 1L << 40, -(1L << 40)};
+        long[] sorted = new long[ids.length];
+        int[] positions = Day05.sortedOrder(ids, sorted);
+
+        long[] expected = ids.clone();
+        Arrays.sort(expected);
+        assertArrayEquals(expected, sorted);
+        for (int i = 0; i < ids.length; i++) {
+            assertEquals(sorted[i], ids[positions[i]]);
+        }
+        // Stable: the two 5s keep their order
+        assertEquals(0, positions[4]);
+        assertEquals(5, positions[5]);
+    }
+
+    @Test
+    public void testCountFreshMatchesBinarySearch() {
+        SplittableRandom random = new SplittableRandom(25);
+        long[] starts = random.longs(500, 0, 1_000_000).toArray();
+        long[] ends = new long[starts.length];
+        for (int i = 0; i < starts.length; i++) {
+            ends[i] = starts[i] + random.nextLong(2_000);
+        }
+        IntervalIndex index = IntervalIndex.of(starts, ends);
+
+        // Large enough for the parallel sort, with duplicates
+        long[] ids = random.longs(Day05.PARALLEL_SORT_MIN + 1000, -100, 1_010_000).toArray();
+        long expected = index.countContained(ids);
+        BitSet fresh = new BitSet(ids.length);
+
+        assertEquals(expected, Day05.countFresh(index, ids, fresh));
+        assertEquals(expected, fresh.cardinality());
+        for (int i = 0; i < ids.length; i++) {
+            assertEquals(index.contains(ids[i]), fresh.get(i));
+        }
+        assertEquals(expected, Day05.countFresh(index, ids, null));
+    }
 }
@@ -0,0 +1,146 @@
+package com.stiksy.aoc2025.day05;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.SplittableRandom;
+
+import static org.junit.Assert.*;
+
+public class IntervalIndexTest {
+
+    @Test
+    public void testExampleMerge() {
+        IntervalIndex index = IntervalIndex.of(new long[]{3, 10, 16, 12}, new long[]{5, 14, 20, 18});
+
+        assertEquals(2, index.size());
+        assertEquals(3, index.start(0));
+        assertEquals(5, index.end(0));
+        assertEquals(10, index.start(1));
+        assertEquals(20, index.end(1));
+        assertEquals(14, index.coverage());
+    }
+
+    @Test
+    public void testExampleMembership() {
+        IntervalIndex index = IntervalIndex.of(new long[]{3, 10, 16, 12}, new long[]{5, 14, 20, 18});
+
+        assertFalse(index.contains(1));
+        assertTrue(index.contains(5));
+        assertFalse(index.contains(8));
+        assertTrue(index.contains(11));
+        assertTrue(index.contains(17));
+        assertFalse(index.contains(32));
+        assertEquals(3, index.countContained(new long[]{1, 5, 8, 11, 17, 32}));
+    }
+
+    @Test
+    public void testRangeOfBoundaries() {
+        IntervalIndex index = IntervalIndex.of(new long[]{10, 30}, new long[]{20, 30});
+
+        assertEquals(-1, index.rangeOf(9));
+        assertEquals(0, index.rangeOf(10));
+        assertEquals(0, index.rangeOf(20));
+        assertEquals(-1, index.rangeOf(21));
+        assertEquals(-1, index.rangeOf(29));
+        assertEquals(1, index.rangeOf(30));
+        assertEquals(-1, index.rangeOf(31));
+        assertEquals(-1, index.rangeOf(Long.MIN_VALUE));
+    }
+
+    @Test
+    public void testAdjacentRangesMerge() {
+        IntervalIndex index = IntervalIndex.of(new long[]{15, 10, 22}, new long[]{20, 14, 25});
+
+        assertEquals(2, index.size());
+        assertEquals(10, index.start(0));
+        assertEquals(20, index.end(0));
+        assertEquals(15, index.coverage());
+    }
+
+    @Test
+    public void testEmpty() {
+        IntervalIndex index = IntervalIndex.of(new long[0], new long[0]);
+
+        assertEquals(0, index.size());
+        assertEquals(0, index.coverage());
+        assertFalse(index.contains(0));
+        assertEquals(0, index.countContained(new long[]{1, 2, 3}));
+    }
+
+    @Test
+    public void testCountContainedSorted() {
+        IntervalIndex index = IntervalIndex.of(new long[]{3, 10, 16, 12}, new long[]{5, 14, 20, 18});
+        BitSet fresh = new BitSet();
+
+        assertEquals(5, index.countContainedSorted(new long[]{1, 3, 3, 5, 8, 10, 20, 21, 32}, fresh));
+        assertEquals("{1, 2, 3, 5, 6}", fresh.toString());
+        assertEquals(0, index.countContainedSorted(new long[0], null));
+        assertEquals(0, IntervalIndex.of(new long[0], new long[0]).countContainedSorted(new long[]{1, 2}, null));
+    }
+
+    @Test
+    public void testNestedRangesLeaveInputUntouched() {
+        long[] starts = {50, 1, 2, 120};
+        long[] ends = {60, 100, 3, 130};
+        IntervalIndex index = IntervalIndex.of(starts, ends);
+
+        assertEquals(2, index.size());
+        assertEquals(1, index.start(0));
+        assertEquals(100, index.end(0));
+        assertEquals(120, index.start(1));
+        assertEquals(130, index.end(1));
+        assertArrayEquals(new long[]{50, 1, 2, 120}, starts);
+        assertArrayEquals(new long[]{60, 100, 3, 130}, ends);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testReversedRange() {
+        IntervalIndex.of(new long[]{5}, new long[]{4});
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMismatchedArrays() {
+        IntervalIndex.of(new long[]{1, 2}, new long[]{3});
+    }
+
+    @Test
+    public void testMatchesLinearScan() {
+        SplittableRandom random = new SplittableRandom(5);
+
+        for (int round = 0; round < 200; round++) {
+            int count = random.nextInt(20);
+            long[] starts = new long[count];
+            long[] ends = new long[count];
+            for (int i = 0; i < count; i++) {
+                starts[i] = random.nextLong(200);
+                ends[i] = starts[i] + random.nextLong(15);
+            }
+            IntervalIndex index = IntervalIndex.of(starts, ends);
+
+            long[] ids = random.longs(50, -5, 230).toArray();
+            long expectedCount = 0;
+            for (long id : ids) {
+                boolean fresh = false;
+                for (int i = 0; i < count; i++) {
+                    fresh |= id >= starts[i] && id <= ends[i];
+                }
+                assertEquals("id " + id, fresh, index.contains(id));
+                expectedCount += fresh ? 1 : 0;
+            }
+            assertEquals(expectedCount, index.countContained(ids));
+            long[] sorted = ids.clone();
+            Arrays.sort(sorted);
+            assertEquals(expectedCount, index.countContainedSorted(sorted, null));
+            assertEquals(expectedCount - index.countContained(ids, 0, 10),
+                    index.countContained(ids, 10, ids.length));
+
+            long covered = 0;
+            for (long id = -5; id < 230; id++) {
+                covered += index.contains(id) ? 1 : 0;
+            }
+            assertEquals(covered, index.coverage());
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.stiksy.aoc2025.day06;
 
 import com.stiksy.aoc2025.util.InputReader;
+import com.stiksy.aoc2025.util.MappedInput;
 import org.junit.Test;
 
 import java.util.Arrays;
@@ -55,4 +56,13 @@ public class Day06Test {
         long result = solution.solvePart2(input);
         assertEquals(11371597126232L, result);
     }
+
+    @Test
+    public void testMappedInputActual() {
+        Day06 solution = new Day06();
+        MappedInput input = MappedInput.ofResource("day06/input.txt");
+
+        assertEquals(5552221122013L, solution.solvePart1(input));
+        assertEquals(11371597126232L, solution.solvePart2(input));
+    }
 }
@@ -1,6 +1,7 @@
 package com.stiksy.aoc2025.day07;
 
 import com.stiksy.aoc2025.util.InputReader;
+import com.stiksy.aoc2025.util.MappedInput;
 import org.junit.Test;
 
 import java.util.Arrays;
@@ -79,4 +80,13 @@ public class Day07Test {
         long result = solution.solvePart2(input);
         assertEquals(15118009521693L, result);
     }
+
+    @Test
+    public void testMappedInputActual() {
+        Day07 solution = new Day07();
+        MappedInput input = MappedInput.ofResource("day07/input.txt");
+
+        assertEquals(1570, solution.solvePart1(input));
+        assertEquals(15118009521693L, solution.solvePart2(input));
+    }
 }
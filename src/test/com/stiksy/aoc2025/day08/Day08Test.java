@@ -1,6 +1,7 @@
 package com.stiksy.aoc2025.day08;
 
 import com.stiksy.aoc2025.util.InputReader;
+import com.stiksy.aoc2025.util.MappedInput;
 import org.junit.Test;
 
 import java.util.Arrays;
@@ -90,4 +91,25 @@ public class Day08Test {
         long result = solution.solvePart2(input);
         assertEquals(22517595, result);
     }
+
+    @Test
+    public void testMappedInputActual() {
+        Day08 solution = new Day08();
+        MappedInput input = MappedInput.ofResource("day08/input.txt");
+
+        assertEquals(96672, solution.solvePart1(input));
+        assertEquals(22517595, solution.solvePart2(input));
+    }
+
+    @Test
+    public void testPairCount() {
+        assertEquals(0, Day08.pairCount(1));
+        assertEquals(190, Day08.pairCount(20));
+        assertEquals(2_147_450_880, Day08.pairCount(65_536));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testPairCountTooLarge() {
+        Day08.pairCount(100_000);
+    }
 }
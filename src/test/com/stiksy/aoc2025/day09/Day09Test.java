@@ -1,6 +1,7 @@
 package com.stiksy.aoc2025.day09;
 
 import com.stiksy.aoc2025.util.InputReader;
+import com.stiksy.aoc2025.util.MappedInput;
 import org.junit.Test;
 
 import java.util.Arrays;
@@ -63,4 +64,13 @@ public class Day09Test {
         long result = solution.solvePart2(input);
         assertEquals(1573359081L, result);
     }
+
+    @Test
+    public void testMappedInputActual() {
+        Day09 solution = new Day09();
+        MappedInput input = MappedInput.ofResource("day09/input.txt");
+
+        assertEquals(4781546175L, solution.solvePart1(input));
+        assertEquals(1573359081L, solution.solvePart2(input));
+    }
 }
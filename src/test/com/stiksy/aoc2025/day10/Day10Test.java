@@ -1,6 +1,8 @@
 package com.stiksy.aoc2025.day10;
 
 import com.stiksy.aoc2025.util.InputReader;
+import com.stiksy.aoc2025.util.LineCursor;
+import com.stiksy.aoc2025.util.MappedInput;
 import org.junit.Test;
 
 import java.util.Arrays;
@@ -97,4 +99,25 @@ public class Day10Test {
         long result = solution.solvePart2(input);
         assertEquals(15377, result);
     }
+
+    @Test
+    public void testMappedInputActual() {
+        Day10 solution = new Day10();
+        MappedInput input = MappedInput.ofResource("day10/input.txt");
+
+        assertEquals(375, solution.solvePart1(input));
+        assertEquals(15377, solution.solvePart2(input));
+    }
+
+    @Test
+    public void testStreamingActual() {
+        Day10 solution = new Day10();
+
+        try (LineCursor input = LineCursor.ofResource("day10/input.txt")) {
+            assertEquals(375, solution.solvePart1(input));
+        }
+        try (LineCursor input = LineCursor.ofResource("day10/input.txt")) {
+            assertEquals(15377, solution.solvePart2(input));
+        }
+    }
 }
@@ -1,6 +1,7 @@
 package com.stiksy.aoc2025.day11;
 
 import com.stiksy.aoc2025.util.InputReader;
+import com.stiksy.aoc2025.util.MappedInput;
 import org.junit.Test;
 
 import java.util.Arrays;
@@ -66,4 +67,13 @@ public class Day11Test {
         long result = solution.solvePart2(input);
         assertEquals(438314708837664L, result);
     }
+
+    @Test
+    public void testMappedInputActual() {
+        Day11 solution = new Day11();
+        MappedInput input = MappedInput.ofResource("day11/input.txt");
+
+        assertEquals(674, solution.solvePart1(input));
+        assertEquals(438314708837664L, solution.solvePart2(input));
+    }
 }
@@ -1,6 +1,7 @@
 package com.stiksy.aoc2025.day12;
 
 import com.stiksy.aoc2025.util.InputReader;
+import com.stiksy.aoc2025.util.MappedInput;
 import org.junit.Test;
 
 import java.util.Arrays;
@@ -59,4 +60,12 @@ public class Day12Test {
         long result = solution.solvePart1(input);
         assertEquals(577, result);
     }
+
+    @Test
+    public void testMappedInputActual() {
+        Day12 solution = new Day12();
+        MappedInput input = MappedInput.ofResource("day12/input.txt");
+
+        assertEquals(577, solution.solvePart1(input));
+    }
 }
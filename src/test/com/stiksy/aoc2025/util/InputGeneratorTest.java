@@ -0,0 +1,150 @@
+package com.stiksy.aoc2025.util;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+public class InputGeneratorTest {
+
+    @Test
+    public void testDeterministic() {
+        for (int day = 1; day <= 12; day++) {
+            assertEquals("day " + day, InputGenerator.generate(day, 50, 1), InputGenerator.generate(day, 50, 1));
+        }
+        assertNotEquals(InputGenerator.generate(1, 50, 1), InputGenerator.generate(1, 50, 2));
+    }
+
+    @Test
+    public void testLineCounts() {
+        assertEquals(1000, InputGenerator.generate(1, 1000, 1).size());
+        assertEquals(1, InputGenerator.generate(2, 1000, 1).size());
+        assertEquals(1000, InputGenerator.generate(2, 1000, 1).get(0).split(",").length);
+        assertEquals(1000, InputGenerator.generate(3, 1000, 1).size());
+        assertEquals(2001, InputGenerator.generate(5, 1000, 1).size());
+        assertEquals(5, InputGenerator.generate(6, 1000, 1).size());
+        assertEquals(1000, InputGenerator.generate(8, 1000, 1).size());
+        assertEquals(1000, InputGenerator.generate(10, 1000, 1).size());
+    }
+
+    @Test
+    public void testDay02RangesAreDisjoint() {
+        long[][] bounds = day02Bounds(InputGenerator.generate(2, 2000, 3));
+        for (long[] range : bounds) {
+            assertTrue(range[1] - range[0] < InputGenerator.DAY02_MAX_WIDTH);
+            assertTrue(range[1] < 1_000_000_000_000L + 2000 * InputGenerator.DAY02_MAX_WIDTH);
+        }
+    }
+
+    @Test
+    public void testDay02WideRanges() {
+        long[][] bounds = day02Bounds(InputGenerator.day02(200, Long.MAX_VALUE, 3));
+        long widest = 0;
+        for (long[] range : bounds) {
+            widest = Math.max(widest, range[1] - range[0] + 1);
+        }
+        // 12-digit starts allow widths up to 9 * 10^11
+        assertTrue(widest > 100_000_000_000L);
+        assertTrue(widest <= 900_000_000_000L);
+    }
+
+    @Test
+    public void testDay02WidthCap() {
+        for (long[] range : day02Bounds(InputGenerator.day02(500, 10, 4))) {
+            assertTrue(range[1] - range[0] < 10);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDay02NonPositiveWidth() {
+        InputGenerator.day02(10, 0, 1);
+    }
+
+    /** Parse a Day 2 input and check the ranges are well-formed and disjoint. */
+    private static long[][] day02Bounds(List<String> input) {
+        assertEquals(1, input.size());
+        String[] ranges = input.get(0).split(",");
+        long[][] bounds = new long[ranges.length][];
+        for (int i = 0; i < ranges.length; i++) {
+            String[] parts = ranges[i].split("-");
+            bounds[i] = new long[]{Long.parseLong(parts[0]), Long.parseLong(parts[1])};
+            assertTrue(bounds[i][0] <= bounds[i][1]);
+        }
+        Arrays.sort(bounds, (a, b) -> Long.compare(a[0], b[0]));
+        for (int i = 1; i < bounds.length; i++) {
+            assertTrue(bounds[i][0] > bounds[i - 1][1]);
+        }
+        return bounds;
+    }
+
+    @Test
+    public void testDay04SquareGrid() {
+        List<String> grid = InputGenerator.generate(4, 300, 1);
+
+        assertEquals(300, grid.size());
+        for (String row : grid) {
+            assertTrue(row.matches("[@.]{300}"));
+        }
+    }
+
+    @Test
+    public void testDay06ColumnsLineUp() {
+        List<String> sheet = InputGenerator.generate(6, 200, 1);
+
+        for (String line : sheet) {
+            assertEquals(sheet.get(0).length(), line.length());
+        }
+        assertEquals(200, sheet.get(4).replace(" ", "").length());
+    }
+
+    @Test
+    public void testDay09RectilinearPolygon() {
+        List<String> vertices = InputGenerator.generate(9, 1000, 1);
+
+        assertEquals(1000, vertices.size());
+        Set<String> distinct = new HashSet<>(vertices);
+        assertEquals(vertices.size(), distinct.size());
+        for (int i = 0; i < vertices.size(); i++) {
+            String[] a = vertices.get(i).split(",");
+            String[] b = vertices.get((i + 1) % vertices.size()).split(",");
+            assertTrue("edge " + i, a[0].equals(b[0]) ^ a[1].equals(b[1]));
+        }
+        assertEquals(8, InputGenerator.generate(9, 5, 1).size());
+    }
+
+    @Test
+    public void testDay11NamedDevices() {
+        List<String> devices = InputGenerator.generate(11, 20000, 1);
+        Set<String> names = new HashSet<>();
+        for (String line : devices) {
+            assertTrue(names.add(line.substring(0, line.indexOf(':'))));
+        }
+
+        assertTrue(names.containsAll(List.of("svr", "you", "fft", "dac")));
+        assertFalse("out has no outputs", names.contains("out"));
+    }
+
+    @Test
+    public void testWriteMatchesGenerate() throws IOException {
+        Path file = Files.createTempFile("generated", ".txt");
+        try {
+            InputGenerator.write(12, 40, 9, file);
+
+            assertEquals(InputGenerator.generate(12, 40, 9), Files.readAllLines(file));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnknownDay() {
+        InputGenerator.generate(13, 10, 1);
+    }
+}
@@ -2,6 +2,9 @@ package com.stiksy.aoc2025.util;
 
 import org.junit.Test;
 
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 import static org.junit.Assert.*;
@@ -82,4 +85,86 @@ public class InputReaderTest {
         assertNotNull(lines);
         assertTrue(lines.isEmpty());
     }
+
+    @Test
+    public void testReadIntArray() {
+        int[] numbers = InputReader.readIntArray("util/test_integers.txt");
+
+        assertArrayEquals(new int[]{1, 2, 3, 42, 100}, numbers);
+    }
+
+    @Test
+    public void testReadLongArray() {
+        long[] numbers = InputReader.readLongArray("util/test_longs.txt");
+
+        assertArrayEquals(new long[]{1234567890123L, 9876543210987L, 42L}, numbers);
+    }
+
+    @Test
+    public void testReadDelimitedLongArray() {
+        // '-' is a range separator here, so "-7" reads as 7
+        long[] numbers = InputReader.readLongArray("util/test_delimited.txt", ",-");
+
+        assertArrayEquals(new long[]{11, 22, 95, 115, 998, 1012, 162, 817, 812, 7, 42, 3}, numbers);
+    }
+
+    @Test
+    public void testReadIntBuffer() {
+        IntBuffer numbers = InputReader.readIntBuffer("util/test_integers.txt", "");
+
+        assertEquals(5, numbers.remaining());
+        assertEquals(42, numbers.get(3));
+    }
+
+    @Test
+    public void testParseSignedTriples() {
+        LongBuffer numbers = InputReader.parseLongs("1,-2,3\n-40,5,60\n".getBytes(StandardCharsets.UTF_8), ",");
+
+        assertEquals(6, numbers.remaining());
+        assertEquals(-2, numbers.get(1));
+        assertEquals(-40, numbers.get(3));
+        assertEquals(60, numbers.get(5));
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public void testParseUnexpectedCharacter() {
+        InputReader.readIntArray("util/test_delimited.txt", ",");
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public void testParseIntOverflow() {
+        InputReader.readIntArray("util/test_longs.txt");
+    }
+
+    @Test
+    public void testParseRangeLimits() {
+        IntBuffer ints = InputReader.parseInts("2147483647 -2147483648".getBytes(StandardCharsets.UTF_8), "");
+        LongBuffer longs = InputReader.parseLongs(
+                "9223372036854775807 -9223372036854775808".getBytes(StandardCharsets.UTF_8), "");
+
+        assertEquals(Integer.MAX_VALUE, ints.get(0));
+        assertEquals(Integer.MIN_VALUE, ints.get(1));
+        assertEquals(Long.MAX_VALUE, longs.get(0));
+        assertEquals(Long.MIN_VALUE, longs.get(1));
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public void testParseIntUnderflow() {
+        InputReader.parseInts("-2147483649".getBytes(StandardCharsets.UTF_8), "");
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public void testParseLongOverflow() {
+        InputReader.parseLongs("9223372036854775808".getBytes(StandardCharsets.UTF_8), "");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNonAsciiDelimiter() {
+        InputReader.parseLongs("1\u00a02".getBytes(StandardCharsets.UTF_8), "\u00a0");
+    }
+
+    @Test
+    public void testReadIntArrayNonExistentFile() {
+        assertEquals(0, InputReader.readIntArray("util/nonexistent.txt").length);
+    }
 }
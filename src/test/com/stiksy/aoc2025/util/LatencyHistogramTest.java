@@ -0,0 +1,65 @@
+package com.stiksy.aoc2025.util;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void testEmpty() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        assertEquals(0, histogram.count());
+        assertEquals(0, histogram.min());
+        assertEquals(0, histogram.valueAtPercentile(50));
+        assertEquals(0.0, histogram.stdDev(), 0.0);
+    }
+
+    @Test
+    public void testSmallValuesAreExact() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(i);
+        }
+
+        assertEquals(100, histogram.count());
+        assertEquals(1, histogram.min());
+        assertEquals(100, histogram.max());
+        assertEquals(50.5, histogram.mean(), 1e-9);
+        assertEquals(50, histogram.valueAtPercentile(50));
+        assertEquals(95, histogram.valueAtPercentile(95));
+        assertEquals(100, histogram.valueAtPercentile(100));
+        assertEquals(28.866, histogram.stdDev(), 1e-3);
+    }
+
+    @Test
+    public void testRelativePrecision() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        long[] values = {1_000, 123_456, 7_654_321, 2_500_000_000L, Long.MAX_VALUE / 3};
+        for (long value : values) {
+            LatencyHistogram single = new LatencyHistogram();
+            single.record(value);
+            single.record(value + 1);
+            long reported = single.valueAtPercentile(50);
+            assertTrue(value + " reported as " + reported, Math.abs(reported - value) <= value / 64);
+            histogram.add(single);
+        }
+
+        assertEquals(2 * values.length, histogram.count());
+        assertEquals(1_000, histogram.min());
+        assertEquals(Long.MAX_VALUE / 3 + 1, histogram.max());
+    }
+
+    @Test
+    public void testBucketsCoverEveryValue() {
+        long previousHigh = -1;
+        for (int bucket = 0; bucket < LatencyHistogram.bucketOf(Long.MAX_VALUE) + 1; bucket++) {
+            assertEquals(previousHigh + 1, LatencyHistogram.lowestValueIn(bucket));
+            assertEquals(bucket, LatencyHistogram.bucketOf(LatencyHistogram.lowestValueIn(bucket)));
+            assertEquals(bucket, LatencyHistogram.bucketOf(LatencyHistogram.highestValueIn(bucket)));
+            previousHigh = LatencyHistogram.highestValueIn(bucket);
+        }
+        assertEquals(Long.MAX_VALUE, previousHigh);
+    }
+}
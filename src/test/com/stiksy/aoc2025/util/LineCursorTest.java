@@ -0,0 +1,96 @@
+package com.stiksy.aoc2025.util;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class LineCursorTest {
+
+    private static LineCursor cursor(String text) {
+        return LineCursor.of(new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static List<String> drain(LineCursor cursor) {
+        List<String> records = new ArrayList<>();
+        while (cursor.next()) {
+            records.add(cursor.toString());
+        }
+        return records;
+    }
+
+    @Test
+    public void testLinesMatchReadLines() {
+        try (LineCursor cursor = LineCursor.ofResource("util/test_with_empty_lines.txt")) {
+            assertEquals(InputReader.readLines("util/test_with_empty_lines.txt"), drain(cursor));
+        }
+    }
+
+    @Test
+    public void testLineTerminators() {
+        assertEquals(Arrays.asList("a", "bb", "ccc", "", "d"), drain(cursor("a\r\nbb\rccc\n\nd")));
+        assertEquals(Arrays.asList("x"), drain(cursor("x\n")));
+        assertTrue(drain(cursor("")).isEmpty());
+    }
+
+    @Test
+    public void testLongLinesSpanningChunks() {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 3; i++) {
+            text.append("9".repeat(100_000 + i)).append("\r\n");
+        }
+
+        List<String> lines = drain(cursor(text.toString()));
+
+        assertEquals(3, lines.size());
+        assertEquals(100_002, lines.get(2).length());
+    }
+
+    @Test
+    public void testCustomDelimiter() {
+        LineCursor cursor = LineCursor.of(
+            new ByteArrayInputStream("11-22,95-115,\n998-1012".getBytes(StandardCharsets.UTF_8)), (byte) ',');
+
+        assertEquals(Arrays.asList("11-22", "95-115", "\n998-1012"), drain(cursor));
+        assertEquals(',', cursor.delimiter());
+    }
+
+    @Test
+    public void testParseFields() {
+        LineCursor cursor = cursor("12,-345, 6 \n   \n");
+
+        assertTrue(cursor.next());
+        int comma1 = cursor.indexOf((byte) ',', 0);
+        int comma2 = cursor.indexOf((byte) ',', comma1 + 1);
+        assertEquals(12, cursor.parseInt(0, comma1));
+        assertEquals(-345L, cursor.parseLong(comma1 + 1, comma2));
+        assertEquals(6, cursor.parseInt(comma2 + 1, cursor.length()));
+        assertFalse(cursor.isBlank());
+
+        assertTrue(cursor.next());
+        assertTrue(cursor.isBlank());
+        assertFalse(cursor.next());
+    }
+
+    @Test
+    public void testCharSequenceView() {
+        LineCursor cursor = cursor("line1\n");
+
+        assertTrue(cursor.next());
+        assertEquals(5, cursor.length());
+        assertEquals('1', cursor.charAt(4));
+        assertEquals("ine", cursor.subSequence(1, 4).toString());
+    }
+
+    @Test
+    public void testReadNonExistentResource() {
+        try (LineCursor cursor = LineCursor.ofResource("util/nonexistent.txt")) {
+            assertFalse(cursor.next());
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.stiksy.aoc2025.util;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class MappedInputTest {
+
+    @Test
+    public void testLinesMatchReadLines() {
+        MappedInput input = MappedInput.ofResource("util/test_with_empty_lines.txt");
+
+        assertEquals(InputReader.readLines("util/test_with_empty_lines.txt"), input.lines());
+        assertEquals(5, input.lineCount());
+        assertTrue(input.isBlank(1));
+        assertFalse(input.isBlank(2));
+    }
+
+    @Test
+    public void testLineSlices() {
+        MappedInput input = MappedInput.ofResource("util/test_lines.txt");
+
+        assertEquals(3, input.lineCount());
+        assertEquals(5, input.lineLength(1));
+        assertEquals('l', input.byteAt(input.lineStart(1)));
+        assertEquals('2', input.byteAt(input.lineEnd(1) - 1));
+        assertEquals("line3", input.lineAsString(2));
+    }
+
+    @Test
+    public void testLineTerminators() {
+        MappedInput input = MappedInput.wrap("a\r\nbb\rccc\n\nd".getBytes(StandardCharsets.UTF_8));
+
+        assertEquals(Arrays.asList("a", "bb", "ccc", "", "d"), input.lines());
+    }
+
+    @Test
+    public void testParseNumbers() {
+        MappedInput input = MappedInput.wrap("12,-345, 6 \n".getBytes(StandardCharsets.UTF_8));
+        int start = input.lineStart(0);
+        int end = input.lineEnd(0);
+        int comma1 = input.indexOf((byte) ',', start, end);
+        int comma2 = input.indexOf((byte) ',', comma1 + 1, end);
+
+        assertEquals(12, input.parseInt(start, comma1));
+        assertEquals(-345L, input.parseLong(comma1 + 1, comma2));
+        assertEquals(6, input.parseInt(comma2 + 1, end));
+        assertEquals(-1, input.indexOf((byte) ';', start, end));
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public void testParseInvalidNumber() {
+        MappedInput input = MappedInput.wrap("12a".getBytes(StandardCharsets.UTF_8));
+        input.parseLong(0, 3);
+    }
+
+    @Test
+    public void testSliceView() {
+        MappedInput input = MappedInput.ofResource("util/test_lines.txt");
+        MappedInput.Slice slice = input.slice();
+
+        assertEquals("line1", slice.select(0).toString());
+        assertEquals(5, slice.select(2).length());
+        assertEquals('3', slice.charAt(4));
+    }
+
+    @Test
+    public void testMapFile() throws IOException {
+        Path file = Files.createTempFile("mapped-input", ".txt");
+        try {
+            Files.write(file, List.of("first", "second"));
+            MappedInput input = MappedInput.of(file);
+
+            assertEquals(Arrays.asList("first", "second"), input.lines());
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void testReadNonExistentResource() {
+        MappedInput input = MappedInput.ofResource("util/nonexistent.txt");
+
+        assertNotNull(input);
+        assertEquals(0, input.lineCount());
+    }
+}
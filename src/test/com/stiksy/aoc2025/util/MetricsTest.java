@@ -0,0 +1,91 @@
+package com.stiksy.aoc2025.util;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class MetricsTest {
+
+    private static final Metrics.Counter NODES = Metrics.counter("test.nodes");
+
+    @After
+    public void disable() {
+        Metrics.setEnabled(false);
+        Metrics.end();
+    }
+
+    @Test
+    public void testDisabledRecordsNothing() {
+        Metrics.begin(1, "part1", Metrics.Phase.SEARCH);
+        long before = NODES.value();
+        Metrics.Span build = Metrics.phase(Metrics.Phase.BUILD);
+        try {
+            NODES.increment();
+        } finally {
+            build.close();
+        }
+
+        assertEquals(before, NODES.value());
+        assertNull(Metrics.end());
+    }
+
+    @Test
+    public void testNestedPhasesAreExclusive() throws InterruptedException {
+        Metrics.setEnabled(true);
+        Metrics.begin(8, "parse", Metrics.Phase.PARSE);
+        Thread.sleep(5);
+        Metrics.Span build = Metrics.phase(Metrics.Phase.BUILD);
+        try {
+            long[] data = new long[100_000];
+            assertEquals(0, data[0]);
+            Thread.sleep(20);
+        } finally {
+            build.close();
+        }
+        Metrics.Report report = Metrics.end();
+
+        assertEquals(8, report.day());
+        assertEquals("parse", report.step());
+        assertTrue(report.nanos(Metrics.Phase.BUILD) >= 20_000_000);
+        assertTrue(report.nanos(Metrics.Phase.PARSE) >= 5_000_000);
+        assertTrue(report.nanos(Metrics.Phase.PARSE) < report.nanos(Metrics.Phase.BUILD));
+        assertTrue(report.allocatedBytes(Metrics.Phase.BUILD) >= 800_000);
+        assertEquals(0, report.nanos(Metrics.Phase.VERIFY));
+    }
+
+    @Test
+    public void testCountersReportDeltas() {
+        Metrics.setEnabled(true);
+        NODES.add(5);
+
+        Metrics.begin(12, "part1", Metrics.Phase.SEARCH);
+        for (int i = 0; i < 3; i++) {
+            NODES.increment();
+        }
+        Metrics.Report report = Metrics.end();
+
+        assertEquals(Long.valueOf(3), report.counters().get("test.nodes"));
+        assertSame(NODES, Metrics.counter("test.nodes"));
+    }
+
+    @Test
+    public void testExport() {
+        Metrics.setEnabled(true);
+        Metrics.begin(10, "part2", Metrics.Phase.SEARCH);
+        NODES.add(7);
+        List<Metrics.Report> reports = List.of(Metrics.end());
+
+        String[] csv = Metrics.toCsv(reports).split("\n");
+        assertEquals("Day,Step,Metric,Value", csv[0]);
+        assertTrue(csv[1].startsWith("10,part2,search.nanos,"));
+        assertTrue(csv[2].startsWith("10,part2,search.bytes,"));
+        assertEquals("10,part2,counter.test.nodes,7", csv[3]);
+
+        String json = Metrics.toJson(reports);
+        assertTrue(json.contains("\"day\": 10, \"step\": \"part2\""));
+        assertTrue(json.contains("\"counters\": {\"test.nodes\": 7}"));
+    }
+}
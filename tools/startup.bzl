@@ -0,0 +1,68 @@
+"""Cold-start variants of a java_binary: an AppCDS archive and a GraalVM native image.
+
+The solvers are usually invoked as short-lived processes, where JVM startup (class loading
+and verification) costs more than the solving itself for the quick days. Both variants are
+tagged manual, so a plain `bazel build //...` does not pay for the training runs or the
+native-image compilation; build them explicitly or through scripts/performance_test.sh.
+"""
+
+def startup_variants(name):
+    """Declares `<name>_cds` and `<name>_native` for the java_binary `name`.
+
+    `<name>_cds` produces `<name>_cds.jar` (a copy of the deploy jar), `<name>_cds.jsa` (a
+    dynamic AppCDS archive recorded during a training run of the binary) and the launcher
+    `<name>_cds.sh`. The archive stays valid as long as it sits next to the jar, since
+    Java 21 accepts a relocated application class path when the relative layout is
+    unchanged. It must be run with the same JDK that recorded it (JAVA_HOME, or `java` on
+    PATH); on a mismatch -Xshare:auto silently falls back to a normal start.
+
+    `<name>_native` compiles the deploy jar with GraalVM `native-image`, taken from
+    GRAALVM_HOME or PATH on the host, so the target is not hermetic and runs locally.
+
+    Args:
+      name: the java_binary target in the calling package.
+    """
+    deploy_jar = ":%s_deploy.jar" % name
+
+    native.genrule(
+        name = name + "_cds",
+        srcs = [deploy_jar],
+        outs = [
+            name + "_cds.jar",
+            name + "_cds.jsa",
+            name + "_cds.sh",
+        ],
+        cmd = """
+cp $< $(location {n}_cds.jar)
+
+# Training run: the archive holds every class loaded while solving the bundled input
+$(JAVABASE)/bin/java -XX:ArchiveClassesAtExit=$(location {n}_cds.jsa) -jar $(location {n}_cds.jar) > /dev/null
+
+cat > $(location {n}_cds.sh) <<'LAUNCHER'
+#!/bin/bash
+DIR="$$(cd "$$(dirname "$${{BASH_SOURCE[0]}}")" && pwd)"
+exec "$${{JAVA_HOME:+$$JAVA_HOME/bin/}}java" -XX:SharedArchiveFile="$$DIR/{n}_cds.jsa" -Xshare:auto -jar "$$DIR/{n}_cds.jar" "$$@"
+LAUNCHER
+chmod +x $(location {n}_cds.sh)
+""".format(n = name),
+        toolchains = ["@bazel_tools//tools/jdk:current_java_runtime"],
+        tools = ["@bazel_tools//tools/jdk:current_java_runtime"],
+        tags = ["manual"],
+    )
+
+    native.genrule(
+        name = name + "_native",
+        srcs = [deploy_jar],
+        outs = [name + "_native"],
+        cmd = " ".join([
+            "$${GRAALVM_HOME:+$$GRAALVM_HOME/bin/}native-image",
+            "--no-fallback",
+            # The puzzle inputs are read from the class path
+            "-H:IncludeResources='day[0-9]+/.*\\.txt$$'",
+            "-jar $<",
+            "-o $(location %s_native)" % name,
+        ]),
+        executable = True,
+        local = True,
+        tags = ["manual"],
+    )